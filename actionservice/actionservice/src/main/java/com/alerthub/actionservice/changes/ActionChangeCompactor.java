@@ -0,0 +1,52 @@
+package com.alerthub.actionservice.changes;
+
+import com.alerthub.actionservice.repository.ActionChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Compacts the action change log: entries older than the retention that
+ * have a newer entry for the same action are removed, so the latest state
+ * of every action stays in the feed for consumers starting from 0.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActionChangeCompactor {
+
+    private static final int DELETE_BATCH = 1000;
+
+    private final ActionChangeRepository actionChangeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${actions.changes.retention-hours:168}")
+    private int retentionHours;
+
+    @Scheduled(fixedDelayString = "${actions.changes.compaction-interval-ms:3600000}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        long removed = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> superseded = actionChangeRepository
+                        .findSupersededBefore(cutoff, Limit.of(DELETE_BATCH));
+                actionChangeRepository.deleteAllByIdInBatch(superseded);
+                return superseded.size();
+            });
+            removed += deleted;
+        } while (deleted == DELETE_BATCH);
+
+        if (removed > 0) {
+            log.info("Compacted {} action change entries older than {}", removed, cutoff);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.alerthub.actionservice.changes;
+
+import com.alerthub.actionservice.dto.ActionChangeFeedResponse;
+import com.alerthub.actionservice.dto.ActionChangeResponse;
+import com.alerthub.actionservice.model.ActionChange;
+import com.alerthub.actionservice.repository.ActionChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-poll reader over the action change outbox.
+ * <p>
+ * A poll with nothing new parks a {@link DeferredResult} instead of a thread.
+ * Waiters are woken after a local commit, and by a periodic check of the
+ * latest sequence so writes from other instances are seen too.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActionChangeFeed {
+
+    private final ActionChangeRepository actionChangeRepository;
+    private final TaskExecutor applicationTaskExecutor;
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicLong latestSequence = new AtomicLong();
+
+    @Value("${actions.changes.max-batch:1000}")
+    private int maxBatch;
+
+    @Value("${actions.changes.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    public ActionChangeFeedResponse read(long after, int limit) {
+        int size = Math.clamp(limit, 1, maxBatch);
+        // One extra row tells whether another batch is already waiting
+        List<ActionChange> changes = actionChangeRepository
+                .findBySequenceGreaterThanOrderBySequenceAsc(after, Limit.of(size + 1));
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+        return ActionChangeFeedResponse.builder()
+                .changes(changes.stream().map(this::mapToResponse).toList())
+                .lastSequence(changes.isEmpty() ? after : changes.getLast().getSequence())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Returns the next batch after {@code after}, waiting up to {@code waitMs} if there is none yet.
+     */
+    public DeferredResult<ActionChangeFeedResponse> poll(long after, int limit, long waitMs) {
+        long timeout = Math.clamp(waitMs, 0, maxWaitMs);
+        ActionChangeFeedResponse current = read(after, limit);
+        if (!current.getChanges().isEmpty() || timeout == 0) {
+            DeferredResult<ActionChangeFeedResponse> result = new DeferredResult<>();
+            result.setResult(current);
+            return result;
+        }
+
+        DeferredResult<ActionChangeFeedResponse> result = new DeferredResult<>(timeout, current);
+        Waiter waiter = new Waiter(after, limit, result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+
+        // A commit between the read above and registering the waiter must not be missed
+        if (latestSequence.get() > after) {
+            wake(waiter);
+        }
+        return result;
+    }
+
+    void onCommitted(long sequence) {
+        latestSequence.accumulateAndGet(sequence, Math::max);
+        wakeWaiters();
+    }
+
+    // Picks up commits made by other instances
+    @Scheduled(fixedDelayString = "${actions.changes.poll-interval-ms:1000}")
+    public void checkLatestSequence() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        long latest = actionChangeRepository.findLatestSequence();
+        if (latestSequence.getAndAccumulate(latest, Math::max) < latest) {
+            wakeWaiters();
+        }
+    }
+
+    private void wakeWaiters() {
+        long latest = latestSequence.get();
+        for (Waiter waiter : waiters) {
+            if (waiter.after() < latest) {
+                wake(waiter);
+            }
+        }
+    }
+
+    private void wake(Waiter waiter) {
+        if (!waiters.remove(waiter)) {
+            return;
+        }
+        // Read on a worker thread, not on the committing request's thread
+        applicationTaskExecutor.execute(() ->
+                waiter.result().setResult(read(waiter.after(), waiter.limit()))
+        );
+    }
+
+    private ActionChangeResponse mapToResponse(ActionChange change) {
+        return ActionChangeResponse.builder()
+                .sequence(change.getSequence())
+                .actionId(change.getActionId())
+                .userId(change.getUserId())
+                .type(change.getType())
+                .action(change.getPayload())
+                .createdAt(change.getCreatedAt())
+                .build();
+    }
+
+    private record Waiter(long after, int limit, DeferredResult<ActionChangeFeedResponse> result) {
+    }
+}
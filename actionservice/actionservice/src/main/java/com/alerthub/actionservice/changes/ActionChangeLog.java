@@ -0,0 +1,72 @@
+package com.alerthub.actionservice.changes;
+
+import com.alerthub.actionservice.enums.ActionChangeType;
+import com.alerthub.actionservice.mapper.ActionMapper;
+import com.alerthub.actionservice.model.Action;
+import com.alerthub.actionservice.model.ActionChange;
+import com.alerthub.actionservice.model.ActionChangeSequence;
+import com.alerthub.actionservice.repository.ActionChangeRepository;
+import com.alerthub.actionservice.repository.ActionChangeSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transactional outbox for Action mutations.
+ * Entries are written in the caller's transaction; the feed is woken once it commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActionChangeLog {
+
+    private final ActionChangeRepository actionChangeRepository;
+    private final ActionChangeSequenceRepository actionChangeSequenceRepository;
+    private final ActionChangeFeed actionChangeFeed;
+    private final JsonMapper jsonMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Action action, ActionChangeType type) {
+        recordAll(List.of(action), type);
+    }
+
+    /**
+     * Records one entry per action, taking the sequence lock once.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<Action> actions, ActionChangeType type) {
+        if (actions.isEmpty()) {
+            return;
+        }
+        ActionChangeSequence sequence = actionChangeSequenceRepository.lock()
+                .orElseThrow(() -> new IllegalStateException("Action change sequence row is missing, check migrations"));
+
+        long next = sequence.getLastSequence();
+        List<ActionChange> changes = new ArrayList<>(actions.size());
+        for (Action action : actions) {
+            changes.add(ActionChange.builder()
+                    .sequence(++next)
+                    .actionId(action.getId())
+                    .userId(action.getUserId())
+                    .type(type)
+                    .payload(jsonMapper.writeValueAsString(ActionMapper.toResponse(action)))
+                    .build());
+        }
+        sequence.setLastSequence(next);
+        actionChangeRepository.saveAll(changes);
+
+        long committed = next;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                actionChangeFeed.onCommitted(committed);
+            }
+        });
+    }
+}
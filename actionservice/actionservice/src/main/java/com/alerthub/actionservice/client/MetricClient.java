@@ -0,0 +1,20 @@
+package com.alerthub.actionservice.client;
+
+import com.alerthub.actionservice.dto.MetricStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Access to metric definitions and counts owned by metricservice.
+ */
+public interface MetricClient {
+
+    /**
+     * @param metricIds    metrics to fetch
+     * @param windowEnd    end of the counting window (the schedule slot)
+     * @param changedSince when not null, only metrics changed since then are returned
+     */
+    List<MetricStatus> getStatus(Collection<String> metricIds, LocalDateTime windowEnd, LocalDateTime changedSince);
+}
@@ -0,0 +1,66 @@
+package com.alerthub.actionservice.client;
+
+import com.alerthub.actionservice.dto.MetricStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calls metricservice's POST /metrics/status.
+ * <p>
+ * Timeouts keep a stalled metricservice from holding a slot: the boundary
+ * refresh falls back to pre-evaluated conditions when it times out.
+ */
+@Component
+public class RestMetricClient implements MetricClient {
+
+    private final RestClient restClient;
+
+    public RestMetricClient(
+            @Value("${metrics.service.url}") String baseUrl,
+            @Value("${metrics.service.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${metrics.service.read-timeout-ms:5000}") long readTimeoutMs
+    ) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public List<MetricStatus> getStatus(
+            Collection<String> metricIds,
+            LocalDateTime windowEnd,
+            LocalDateTime changedSince
+    ) {
+        if (metricIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("metricIds", metricIds);
+        body.put("windowEnd", windowEnd);
+        body.put("changedSince", changedSince);
+
+        List<MetricStatus> statuses = restClient.post()
+                .uri("/metrics/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<MetricStatus>>() {
+                });
+        return statuses == null ? List.of() : statuses;
+    }
+}
@@ -0,0 +1,25 @@
+package com.alerthub.actionservice.controller;
+
+import com.alerthub.actionservice.changes.ActionChangeFeed;
+import com.alerthub.actionservice.dto.ActionChangeFeedResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequestMapping("/actions/changes")
+@RequiredArgsConstructor
+public class ActionChangeController {
+
+    private final ActionChangeFeed actionChangeFeed;
+
+    //tail the action change log after a sequence; waitMs > 0 long-polls for new entries
+    @GetMapping
+    public DeferredResult<ActionChangeFeedResponse> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit,
+            @RequestParam(defaultValue = "0") long waitMs
+    ) {
+        return actionChangeFeed.poll(after, limit, waitMs);
+    }
+}
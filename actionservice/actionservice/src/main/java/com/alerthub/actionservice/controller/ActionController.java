@@ -2,6 +2,7 @@ package com.alerthub.actionservice.controller;
 
 import com.alerthub.actionservice.dto.ActionRequest;
 import com.alerthub.actionservice.dto.ActionResponse;
+import com.alerthub.actionservice.mapper.ActionMapper;
 import com.alerthub.actionservice.model.Action;
 import com.alerthub.actionservice.service.ActionService;
 import jakarta.validation.Valid;
@@ -78,40 +79,12 @@ public class ActionController {
     // Mapping helpers
     // =========================
 
-    /**
-     * Converts ActionRequest DTO to Action entity.
-     */
     private Action mapToEntity(ActionRequest request) {
-        return Action.builder()
-                .userId(request.getUserId())
-                .name(request.getName())
-                .condition(request.getCondition())
-                .actionType(request.getActionType())
-                .recipient(request.getRecipient())
-                .message(request.getMessage())
-                .runOnTime(request.getRunOnTime())
-                .runonday(request.getRunonday())
-                .build();
+        return ActionMapper.toEntity(request);
     }
 
-    /**
-     * Converts Action entity to ActionResponse DTO.
-     */
     private ActionResponse mapToResponse(Action action) {
-        return ActionResponse.builder()
-                .id(action.getId())
-                .userId(action.getUserId())
-                .name(action.getName())
-                .condition(action.getCondition())
-                .actionType(action.getActionType())
-                .recipient(action.getRecipient())
-                .message(action.getMessage())
-                .runOnTime(action.getRunOnTime())
-                .runonday(action.getRunonday())
-                .enabled(action.isEnabled())
-                .createDate(action.getCreateDate())
-                .lastUpdate(action.getLastUpdate())
-                .build();
+        return ActionMapper.toResponse(action);
     }
 
 
@@ -0,0 +1,70 @@
+package com.alerthub.actionservice.controller;
+
+import com.alerthub.actionservice.dto.ImportJobResponse;
+import com.alerthub.actionservice.enums.ImportFormat;
+import com.alerthub.actionservice.importer.ImportJob;
+import com.alerthub.actionservice.service.ActionImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/actions/import")
+@RequiredArgsConstructor
+public class ActionImportController {
+
+    private final ActionImportService actionImportService;
+
+    //start a bulk import of a CSV / NDJSON file
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportJobResponse startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) ImportFormat format,
+            @RequestParam(required = false) Integer batchSize
+    ) {
+        return mapToResponse(actionImportService.start(file, format, batchSize));
+    }
+
+    //get import progress
+    @GetMapping("/{id}")
+    public ImportJobResponse getImport(
+            @PathVariable UUID id
+    ) {
+        return mapToResponse(actionImportService.getJob(id));
+    }
+
+    //download rejected rows as CSV (line,error)
+    @GetMapping(value = "/{id}/errors", produces = "text/csv")
+    public Resource getImportErrors(
+            @PathVariable UUID id
+    ) {
+        return new FileSystemResource(actionImportService.getJob(id).getErrorFile());
+    }
+
+    // =========================
+    // Mapping helpers
+    // =========================
+
+    private ImportJobResponse mapToResponse(ImportJob job) {
+        return ImportJobResponse.builder()
+                .id(job.getId())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .batchSize(job.getBatchSize())
+                .processed(job.getProcessed().get())
+                .imported(job.getImported().get())
+                .skipped(job.getSkipped().get())
+                .failed(job.getFailed().get())
+                .failure(job.getFailure())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.alerthub.actionservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A batch of the action change feed.
+ * Pass {@code lastSequence} as {@code after} to read the next batch.
+ */
+@Data
+@Builder
+public class ActionChangeFeedResponse {
+
+    private List<ActionChangeResponse> changes;
+
+    /**
+     * Sequence of the last returned entry, or the requested one if none
+     */
+    private long lastSequence;
+
+    /**
+     * Whether more entries were already available beyond this batch
+     */
+    private boolean hasMore;
+}
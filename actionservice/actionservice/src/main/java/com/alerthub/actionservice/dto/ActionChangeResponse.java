@@ -0,0 +1,33 @@
+package com.alerthub.actionservice.dto;
+
+import com.alerthub.actionservice.enums.ActionChangeType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One entry of the action change feed.
+ */
+@Data
+@Builder
+public class ActionChangeResponse {
+
+    private long sequence;
+
+    private UUID actionId;
+
+    private Integer userId;
+
+    private ActionChangeType type;
+
+    /**
+     * Action state after the change (ActionResponse)
+     */
+    @JsonRawValue
+    private String action;
+
+    private LocalDateTime createdAt;
+}
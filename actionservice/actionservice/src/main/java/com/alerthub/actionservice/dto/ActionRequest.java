@@ -26,9 +26,11 @@ public class ActionRequest {
     private String name;
 
     @NotBlank(message = "Condition is required")
+    @Size(max = 65535, message = "Condition must not exceed 65535 characters")
     private String condition; // JSON format: [[1, 2], [3]]
 
     @NotBlank(message = "Recipient is required")
+    @Size(max = 255, message = "Recipient must not exceed 255 characters")
     private String recipient; // Phone or email
 
     @NotNull(message = "Action type is required")
@@ -37,9 +39,7 @@ public class ActionRequest {
     @NotNull(message = "Run time is required")
     private LocalTime runOnTime;
 
-    @NotBlank(message = "Run day is required")
-    @Pattern(regexp = "Monday|Tuesday|Wednesday|Thursday|Friday|Saturday|Sunday|All",
-            message = "Run day must be a valid day of week or 'All'")
+    @NotNull(message = "Run day is required")
     private RunOnDay runonday;
 
     @NotBlank(message = "Message is required")
@@ -0,0 +1,54 @@
+package com.alerthub.actionservice.dto;
+
+import com.alerthub.actionservice.enums.ImportFormat;
+import com.alerthub.actionservice.enums.ImportStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress report of a bulk action import.
+ */
+@Data
+@Builder
+public class ImportJobResponse {
+
+    private UUID id;
+
+    private ImportFormat format;
+
+    private ImportStatus status;
+
+    private int batchSize;
+
+    /**
+     * Rows read from the file so far
+     */
+    private long processed;
+
+    /**
+     * Rows inserted as new actions
+     */
+    private long imported;
+
+    /**
+     * Rows already imported by an earlier run
+     */
+    private long skipped;
+
+    /**
+     * Rows rejected; details are in the error file
+     */
+    private long failed;
+
+    /**
+     * Reason the whole import stopped, if it did
+     */
+    private String failure;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,37 @@
+package com.alerthub.actionservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metric definition and window count as reported by metricservice.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricStatus {
+
+    private String id;
+
+    private Integer userId;
+
+    private String name;
+
+    private Integer threshold;
+
+    private Integer timeFrameHours;
+
+    /**
+     * Events counted in the window ending at the requested slot
+     */
+    private long count;
+
+    private LocalDateTime updatedAt;
+
+    public boolean isTriggered() {
+        return threshold != null && count >= threshold;
+    }
+}
@@ -0,0 +1,9 @@
+package com.alerthub.actionservice.enums;
+
+public enum ActionChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ENABLED,
+    DISABLED
+}
@@ -0,0 +1,6 @@
+package com.alerthub.actionservice.enums;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,7 @@
+package com.alerthub.actionservice.enums;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
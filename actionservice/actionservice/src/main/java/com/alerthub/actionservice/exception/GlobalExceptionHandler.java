@@ -72,6 +72,18 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Map<String, Object> handleImportJobNotFound(
+            ImportJobNotFoundException ex
+    ) {
+        return errorResponse(
+                HttpStatus.NOT_FOUND,
+                ex.getMessage(),
+                null
+        );
+    }
+
     // =========================
     // Fallback (500)
     // =========================
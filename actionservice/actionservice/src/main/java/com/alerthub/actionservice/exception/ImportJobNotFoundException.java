@@ -0,0 +1,11 @@
+package com.alerthub.actionservice.exception;
+
+/**
+ * Thrown when an import job id is unknown to this instance.
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
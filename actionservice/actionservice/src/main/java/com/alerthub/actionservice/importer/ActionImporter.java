@@ -0,0 +1,231 @@
+package com.alerthub.actionservice.importer;
+
+import com.alerthub.actionservice.changes.ActionChangeLog;
+import com.alerthub.actionservice.dto.ActionRequest;
+import com.alerthub.actionservice.enums.ActionChangeType;
+import com.alerthub.actionservice.exception.InvalidActionException;
+import com.alerthub.actionservice.mapper.ActionMapper;
+import com.alerthub.actionservice.model.Action;
+import com.alerthub.actionservice.repository.ActionRepository;
+import com.alerthub.actionservice.service.ActionService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams an import file through validation and batched inserts.
+ * Only one batch of rows is held in memory at a time; rejected rows are
+ * appended to the job's error file.
+ * <p>
+ * Every imported action carries an import key (hash of the user and the
+ * externalId column, or of the whole row) so re-running a file only
+ * inserts rows that are not there yet.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActionImporter {
+
+    private final ActionRepository actionRepository;
+    private final ActionChangeLog actionChangeLog;
+    private final ActionService actionService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+
+    public void run(ImportJob job, Path upload) {
+        try (ImportRowReader reader = openReader(job, upload);
+             BufferedWriter errors = Files.newBufferedWriter(job.getErrorFile(), StandardCharsets.UTF_8)) {
+            errors.write("line,error");
+            errors.newLine();
+
+            List<ImportRow> chunk = new ArrayList<>(job.getBatchSize());
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == job.getBatchSize()) {
+                    processChunk(job, chunk, errors);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk, errors);
+            }
+            job.complete();
+        } catch (InvalidActionException e) {
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            log.error("Import {} aborted", job.getId(), e);
+            job.fail("Import aborted after " + job.getProcessed().get() + " rows");
+        } finally {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                log.warn("Could not delete upload {}", upload, e);
+            }
+        }
+    }
+
+    private ImportRowReader openReader(ImportJob job, Path upload) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(upload, StandardCharsets.UTF_8);
+        return switch (job.getFormat()) {
+            case CSV -> new CsvImportRowReader(reader);
+            case NDJSON -> new NdjsonImportRowReader(reader, jsonMapper);
+        };
+    }
+
+    private void processChunk(ImportJob job, List<ImportRow> chunk, BufferedWriter errors) throws IOException {
+        // Validation is CPU bound and independent per row
+        List<ValidatedRow> validated = chunk.parallelStream()
+                .map(this::validate)
+                .toList();
+
+        Map<String, ValidatedRow> rows = new LinkedHashMap<>();
+        long failed = 0;
+        for (ValidatedRow result : validated) {
+            if (result.error() != null) {
+                writeError(errors, result.line(), result.error());
+                failed++;
+            } else {
+                rows.putIfAbsent(result.importKey(), result);
+            }
+        }
+
+        int inserted = 0;
+        if (!rows.isEmpty()) {
+            BatchResult batch = insert(rows.values(), errors);
+            inserted = batch.inserted();
+            failed += batch.rejected();
+        }
+
+        job.getImported().addAndGet(inserted);
+        job.getSkipped().addAndGet(chunk.size() - failed - inserted);
+        job.getFailed().addAndGet(failed);
+        job.getProcessed().addAndGet(chunk.size());
+        errors.flush();
+    }
+
+    private BatchResult insert(Collection<ValidatedRow> rows, BufferedWriter errors) throws IOException {
+        try {
+            return new BatchResult(insertNew(rows), 0);
+        } catch (DataIntegrityViolationException e) {
+            // Another import of the same file may have committed some keys first; re-check and retry once.
+            // insertNew builds new entities, the ones from the rolled back attempt already have ids.
+            try {
+                return new BatchResult(insertNew(rows), 0);
+            } catch (DataIntegrityViolationException again) {
+                // Not a key race: a row the database rejects. Find it rather than abort the job.
+                return insertOneByOne(rows, errors);
+            }
+        }
+    }
+
+    private BatchResult insertOneByOne(Collection<ValidatedRow> rows, BufferedWriter errors) throws IOException {
+        int inserted = 0;
+        int rejected = 0;
+        for (ValidatedRow row : rows) {
+            try {
+                inserted += insertNew(List.of(row));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Import row {} rejected by the database", row.line(), e);
+                writeError(errors, row.line(), "Rejected by the database");
+                rejected++;
+            }
+        }
+        return new BatchResult(inserted, rejected);
+    }
+
+    private int insertNew(Collection<ValidatedRow> rows) {
+        return transactionTemplate.execute(status -> {
+            Set<String> existing = new HashSet<>(actionRepository.findExistingImportKeys(
+                    rows.stream().map(ValidatedRow::importKey).toList()));
+            List<Action> fresh = new ArrayList<>(rows.size());
+            for (ValidatedRow row : rows) {
+                if (!existing.contains(row.importKey())) {
+                    Action action = ActionMapper.toEntity(row.request());
+                    action.setImportKey(row.importKey());
+                    fresh.add(action);
+                }
+            }
+            actionRepository.saveAllAndFlush(fresh);
+            actionChangeLog.recordAll(fresh, ActionChangeType.CREATED);
+            return fresh.size();
+        });
+    }
+
+    private ValidatedRow validate(ImportRow row) {
+        if (row.error() != null) {
+            return ValidatedRow.error(row.line(), row.error());
+        }
+
+        Set<ConstraintViolation<ActionRequest>> violations = validator.validate(row.request());
+        if (!violations.isEmpty()) {
+            return ValidatedRow.error(row.line(), violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        try {
+            actionService.validate(ActionMapper.toEntity(row.request()));
+        } catch (InvalidActionException e) {
+            return ValidatedRow.error(row.line(), e.getMessage());
+        }
+        return new ValidatedRow(row.line(), row.request(), importKey(row), null);
+    }
+
+    private static String importKey(ImportRow row) {
+        ActionRequest r = row.request();
+        String source = row.externalId() != null
+                ? r.getUserId() + "\u0000" + row.externalId()
+                : String.join("\u0000",
+                        String.valueOf(r.getUserId()), r.getName(), r.getCondition(),
+                        r.getActionType().name(), r.getRecipient(), r.getMessage(),
+                        r.getRunOnTime().toString(), r.getRunonday().name());
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeError(BufferedWriter errors, long line, String message) throws IOException {
+        errors.write(line + ",\"" + message.replace("\"", "\"\"") + "\"");
+        errors.newLine();
+    }
+
+    private record ValidatedRow(long line, ActionRequest request, String importKey, String error) {
+
+        static ValidatedRow error(long line, String error) {
+            return new ValidatedRow(line, null, null, error);
+        }
+    }
+
+    private record BatchResult(int inserted, int rejected) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.alerthub.actionservice.importer;
+
+import com.alerthub.actionservice.exception.InvalidActionException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 style CSV reader. The first record is the header;
+ * quoted fields may contain commas, escaped quotes ("") and line breaks.
+ * A leading UTF-8 byte order mark (as written by Excel) is skipped.
+ * A record longer than the limit is a row error; a quote left open at the
+ * end of the file fails the import, as the rest of the file would be one field.
+ */
+public class CsvImportRowReader implements ImportRowReader {
+
+    private final BufferedReader reader;
+    private final int maxRecordLength;
+    private final List<String> header;
+    private long line;
+    // Set by readRecord when the record went past maxRecordLength
+    private boolean oversized;
+
+    public CsvImportRowReader(BufferedReader reader) throws IOException {
+        this(reader, MAX_RECORD_LENGTH);
+    }
+
+    CsvImportRowReader(BufferedReader reader, int maxRecordLength) throws IOException {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+        skipByteOrderMark();
+        this.header = readRecord();
+        if (header == null) {
+            throw new InvalidActionException("Import file is empty");
+        }
+        for (String column : ImportRow.COLUMNS) {
+            if (!header.contains(column)) {
+                throw new InvalidActionException("Import file is missing column: " + column);
+            }
+        }
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> record;
+        long start;
+        do {
+            start = line + 1;
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (!oversized && record.size() == 1 && record.get(0).isBlank());
+
+        if (oversized) {
+            return ImportRow.failed(start, "Record is longer than " + maxRecordLength + " characters");
+        }
+        if (record.size() != header.size()) {
+            return ImportRow.failed(start,
+                    "Expected " + header.size() + " columns but found " + record.size());
+        }
+        Map<String, String> fields = new HashMap<>(header.size() * 2);
+        for (int i = 0; i < header.size(); i++) {
+            fields.put(header.get(i), record.get(i));
+        }
+        return ImportRow.of(start, fields);
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        line++;
+        long start = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean fieldStart = true;
+        boolean quoted = false;
+        // Past the limit the record is still parsed to find where it ends, but no longer buffered
+        int length = 0;
+        while (c != -1) {
+            boolean buffer = ++length <= maxRecordLength;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        if (buffer) {
+                            field.append('"');
+                        }
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    if (buffer) {
+                        field.append((char) c);
+                    }
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                if (buffer) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+                fieldStart = true;
+                c = reader.read();
+                continue;
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r' && buffer) {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = reader.read();
+        }
+        if (quoted) {
+            throw new InvalidActionException("Unclosed quote in the record starting at line " + start);
+        }
+        oversized = length > maxRecordLength;
+        if (oversized) {
+            return List.of();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,50 @@
+package com.alerthub.actionservice.importer;
+
+import com.alerthub.actionservice.enums.ImportFormat;
+import com.alerthub.actionservice.enums.ImportStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one running or finished bulk import.
+ * Counters are updated by the import worker and read by status requests.
+ */
+@Getter
+public class ImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final ImportFormat format;
+    private final int batchSize;
+    private final Path errorFile;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile ImportStatus status = ImportStatus.RUNNING;
+    private volatile String failure;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(ImportFormat format, int batchSize, Path workDir) {
+        this.format = format;
+        this.batchSize = batchSize;
+        this.errorFile = workDir.resolve("action-import-" + id + "-errors.csv");
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = ImportStatus.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failure = reason;
+        finishedAt = LocalDateTime.now();
+        status = ImportStatus.FAILED;
+    }
+}
@@ -0,0 +1,70 @@
+package com.alerthub.actionservice.importer;
+
+import com.alerthub.actionservice.dto.ActionRequest;
+import com.alerthub.actionservice.enums.ActionType;
+import com.alerthub.actionservice.enums.RunOnDay;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One parsed row of an import file.
+ * Either {@code request} is set, or {@code error} explains why the row could not be read.
+ */
+public record ImportRow(long line, ActionRequest request, String externalId, String error) {
+
+    public static final String[] COLUMNS = {
+            "userId", "name", "condition", "actionType", "recipient", "message", "runOnTime", "runonday"
+    };
+
+    // Optional column used as the deduplication key instead of the row content
+    public static final String EXTERNAL_ID = "externalId";
+
+    public static ImportRow failed(long line, String error) {
+        return new ImportRow(line, null, null, error);
+    }
+
+    /**
+     * Builds an ActionRequest from raw column values.
+     * Bean validation and business rules are applied later.
+     */
+    public static ImportRow of(long line, Map<String, String> fields) {
+        try {
+            ActionRequest request = new ActionRequest();
+            request.setUserId(blankToNull(fields.get("userId")) == null
+                    ? null : Integer.valueOf(fields.get("userId").trim()));
+            request.setName(fields.get("name"));
+            request.setCondition(fields.get("condition"));
+            request.setActionType(parseEnum(ActionType.class, fields.get("actionType")));
+            request.setRecipient(fields.get("recipient"));
+            request.setMessage(fields.get("message"));
+            request.setRunOnTime(blankToNull(fields.get("runOnTime")) == null
+                    ? null : LocalTime.parse(fields.get("runOnTime").trim()));
+            request.setRunonday(parseEnum(RunOnDay.class, fields.get("runonday")));
+            return new ImportRow(line, request, blankToNull(fields.get(EXTERNAL_ID)), null);
+        } catch (NumberFormatException e) {
+            return failed(line, "userId must be a number");
+        } catch (DateTimeParseException e) {
+            return failed(line, "runOnTime must be formatted as HH:mm");
+        } catch (IllegalArgumentException e) {
+            return failed(line, e.getMessage());
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (blankToNull(value) == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + ": " + value);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
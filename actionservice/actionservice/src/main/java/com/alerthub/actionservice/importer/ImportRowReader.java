@@ -0,0 +1,21 @@
+package com.alerthub.actionservice.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an import file one row at a time.
+ */
+public interface ImportRowReader extends Closeable {
+
+    /**
+     * Longest record buffered, in characters. Fits the largest valid row
+     * (a 65535-character condition) while a broken file is never held whole.
+     */
+    int MAX_RECORD_LENGTH = 128 * 1024;
+
+    /**
+     * @return the next row, or null at the end of the file
+     */
+    ImportRow next() throws IOException;
+}
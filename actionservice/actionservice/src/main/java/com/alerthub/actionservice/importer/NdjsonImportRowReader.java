@@ -0,0 +1,104 @@
+package com.alerthub.actionservice.importer;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Newline-delimited JSON reader: one action object per line.
+ * A line longer than the limit is a row error and is skipped without being buffered.
+ */
+public class NdjsonImportRowReader implements ImportRowReader {
+
+    private static final TypeReference<Map<String, Object>> OBJECT = new TypeReference<>() {
+    };
+
+    private final BufferedReader reader;
+    private final JsonMapper jsonMapper;
+    private final int maxRecordLength;
+    private long line;
+    // Set by readLine when the line went past maxRecordLength
+    private boolean oversized;
+
+    public NdjsonImportRowReader(BufferedReader reader, JsonMapper jsonMapper) {
+        this(reader, jsonMapper, MAX_RECORD_LENGTH);
+    }
+
+    NdjsonImportRowReader(BufferedReader reader, JsonMapper jsonMapper, int maxRecordLength) {
+        this.reader = reader;
+        this.jsonMapper = jsonMapper;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        do {
+            text = readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (!oversized && text.isBlank());
+
+        if (oversized) {
+            return ImportRow.failed(line, "Record is longer than " + maxRecordLength + " characters");
+        }
+
+        Map<String, Object> json;
+        try {
+            json = jsonMapper.readValue(text, OBJECT);
+        } catch (MismatchedInputException e) {
+            return ImportRow.failed(line, "Expected a JSON object");
+        } catch (JacksonException e) {
+            return ImportRow.failed(line, "Malformed JSON");
+        }
+        // A bare null literal reads as a null map
+        if (json == null) {
+            return ImportRow.failed(line, "Expected a JSON object");
+        }
+
+        Map<String, String> fields = new HashMap<>(json.size() * 2);
+        for (Map.Entry<String, Object> entry : json.entrySet()) {
+            Object value = entry.getValue();
+            // Keep nested values such as the condition matrix as JSON text
+            fields.put(entry.getKey(), value == null || value instanceof String
+                    ? (String) value
+                    : value instanceof Number ? value.toString() : jsonMapper.writeValueAsString(value));
+        }
+        return ImportRow.of(line, fields);
+    }
+
+    // BufferedReader.readLine, but it stops buffering a line past the limit
+    private String readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder();
+        int length = 0;
+        while (c != -1 && c != '\n') {
+            if (++length <= maxRecordLength) {
+                text.append((char) c);
+            }
+            c = reader.read();
+        }
+        oversized = length > maxRecordLength;
+        int end = text.length();
+        if (end > 0 && text.charAt(end - 1) == '\r') {
+            text.setLength(end - 1);
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,51 @@
+package com.alerthub.actionservice.mapper;
+
+import com.alerthub.actionservice.dto.ActionRequest;
+import com.alerthub.actionservice.dto.ActionResponse;
+import com.alerthub.actionservice.model.Action;
+
+/**
+ * Conversions between Action DTOs and the Action entity.
+ * Shared by the REST controller and the bulk importer.
+ */
+public final class ActionMapper {
+
+    private ActionMapper() {
+    }
+
+    /**
+     * Converts ActionRequest DTO to Action entity.
+     */
+    public static Action toEntity(ActionRequest request) {
+        return Action.builder()
+                .userId(request.getUserId())
+                .name(request.getName())
+                .condition(request.getCondition())
+                .actionType(request.getActionType())
+                .recipient(request.getRecipient())
+                .message(request.getMessage())
+                .runOnTime(request.getRunOnTime())
+                .runonday(request.getRunonday())
+                .build();
+    }
+
+    /**
+     * Converts Action entity to ActionResponse DTO.
+     */
+    public static ActionResponse toResponse(Action action) {
+        return ActionResponse.builder()
+                .id(action.getId())
+                .userId(action.getUserId())
+                .name(action.getName())
+                .condition(action.getCondition())
+                .actionType(action.getActionType())
+                .recipient(action.getRecipient())
+                .message(action.getMessage())
+                .runOnTime(action.getRunOnTime())
+                .runonday(action.getRunonday())
+                .enabled(action.isEnabled())
+                .createDate(action.getCreateDate())
+                .lastUpdate(action.getLastUpdate())
+                .build();
+    }
+}
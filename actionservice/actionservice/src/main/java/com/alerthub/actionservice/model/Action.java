@@ -9,6 +9,9 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.UUID;
 
+/**
+ * Schema is managed by Flyway (db/migration); indexes are declared there.
+ */
 @Entity
 @Table(name = "actions")
 @Getter
@@ -32,7 +35,7 @@ public class Action {
      * Condition matrix as JSON string.
      * Example: [[1,2],[3]]
      */
-    @Column(columnDefinition = "TEXT", nullable = false)
+    @Column(name = "`condition`", columnDefinition = "TEXT", nullable = false)
     private String condition;
 
     @Enumerated(EnumType.STRING)
@@ -42,10 +45,14 @@ public class Action {
     /**
      * Email address or phone number
      */
-    @Column(name = "to", nullable = false)
+    @Column(name = "`to`", nullable = false)
     private String recipient;
 
-    @Column(nullable = false)
+    /**
+     * Message template, may contain {{metricName}}, {{count}},
+     * {{threshold}} and {{window}} placeholders
+     */
+    @Column(nullable = false, length = 500)
     private String message;
 
     /**
@@ -58,9 +65,11 @@ public class Action {
     @Column(name = "run_on_day", nullable = false)
     private RunOnDay runonday;
 
+    @Builder.Default
     @Column(nullable = false)
     private boolean enabled = true;
 
+    @Builder.Default
     @Column(nullable = false)
     private boolean deleted = false;
 
@@ -73,6 +82,13 @@ public class Action {
     @Column
     private LocalDateTime lastRun;
 
+    /**
+     * Deduplication key of actions created by a bulk import.
+     * Null for actions created through the API.
+     */
+    @Column(name = "import_key", length = 64, unique = true)
+    private String importKey;
+
     @PrePersist
     protected void onCreate() {
         this.createDate = LocalDateTime.now();
@@ -0,0 +1,74 @@
+package com.alerthub.actionservice.model;
+
+import com.alerthub.actionservice.enums.ActionChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox entry written in the same transaction as an Action mutation.
+ * Sequences are gap-free per commit order, see ActionChangeSequence.
+ * The sequence is assigned before saving, so the entity tells Spring Data
+ * it is new; otherwise saveAll would merge and SELECT every row first.
+ */
+@Entity
+@Table(name = "action_changes")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionChange implements Persistable<Long> {
+
+    @Id
+    private Long sequence;
+
+    @Column(nullable = false)
+    private UUID actionId;
+
+    @Column(nullable = false)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ActionChangeType type;
+
+    /**
+     * Action state after the change, as ActionResponse JSON
+     */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean isNew = true;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return sequence;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+}
@@ -0,0 +1,27 @@
+package com.alerthub.actionservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Single-row counter for ActionChange sequences.
+ * Writers lock the row until commit, so sequences become visible in order
+ * and a consumer tailing by sequence never skips a late commit.
+ * The row is inserted by the V1 migration.
+ */
+@Entity
+@Table(name = "action_change_sequence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionChangeSequence {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+}
@@ -0,0 +1,33 @@
+package com.alerthub.actionservice.repository;
+
+import com.alerthub.actionservice.model.ActionChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ActionChangeRepository extends JpaRepository<ActionChange, Long> {
+
+    // Feed page: entries after a sequence, oldest first
+    List<ActionChange> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(c.sequence), 0) FROM ActionChange c")
+    long findLatestSequence();
+
+    // ===== COMPACTION =====
+
+    // Old entries superseded by a newer entry for the same action
+    @Query("""
+        SELECT c.sequence FROM ActionChange c
+        WHERE c.createdAt < :cutoff
+          AND EXISTS (
+              SELECT 1 FROM ActionChange n
+              WHERE n.actionId = c.actionId
+                AND n.sequence > c.sequence
+          )
+    """)
+    List<Long> findSupersededBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
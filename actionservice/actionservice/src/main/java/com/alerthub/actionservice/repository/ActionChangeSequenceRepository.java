@@ -0,0 +1,17 @@
+package com.alerthub.actionservice.repository;
+
+import com.alerthub.actionservice.model.ActionChangeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface ActionChangeSequenceRepository extends JpaRepository<ActionChangeSequence, Integer> {
+
+    // Held until the surrounding transaction commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ActionChangeSequence s WHERE s.id = " + ActionChangeSequence.ID)
+    Optional<ActionChangeSequence> lock();
+}
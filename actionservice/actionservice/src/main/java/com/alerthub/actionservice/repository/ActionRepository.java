@@ -1,11 +1,16 @@
 package com.alerthub.actionservice.repository;
 import com.alerthub.actionservice.enums.RunOnDay;
 import com.alerthub.actionservice.model.Action;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,4 +44,31 @@ public interface ActionRepository extends JpaRepository<Action, UUID> {
             @Param("day") RunOnDay day
     );
 
+    // Lock the given actions still due and not yet run in the slot; another instance waits, then sees them as run.
+    // Enabled/deleted are re-checked: the action list was read a lead window earlier.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT a FROM Action a
+        WHERE a.id IN :ids
+          AND a.enabled = true
+          AND a.deleted = false
+          AND (a.lastRun IS NULL OR a.lastRun < :slot)
+        ORDER BY a.id
+    """)
+    List<Action> lockNotRunSince(
+            @Param("ids") Collection<UUID> ids,
+            @Param("slot") LocalDateTime slot
+    );
+
+    // Record a dispatch without touching lastUpdate
+    @Modifying
+    @Query("UPDATE Action a SET a.lastRun = :time WHERE a.id IN :ids")
+    int markRun(@Param("ids") Collection<UUID> ids, @Param("time") LocalDateTime time);
+
+    // ===== BULK IMPORT =====
+
+    // Import keys among the given ones that were already imported
+    @Query("SELECT a.importKey FROM Action a WHERE a.importKey IN :keys")
+    List<String> findExistingImportKeys(@Param("keys") Collection<String> keys);
+
 }
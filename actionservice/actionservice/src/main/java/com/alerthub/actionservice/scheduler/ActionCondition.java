@@ -0,0 +1,77 @@
+package com.alerthub.actionservice.scheduler;
+
+import com.alerthub.actionservice.dto.MetricStatus;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parsed condition matrix: OR over rows, AND within a row.
+ * {@code [[1,2],[3]]} fires when metrics 1 and 2 are both triggered, or metric 3 is.
+ */
+final class ActionCondition {
+
+    private final String[][] clauses;
+    private final Set<String> metricIds = new LinkedHashSet<>();
+
+    private ActionCondition(String[][] clauses) {
+        this.clauses = clauses;
+        for (String[] clause : clauses) {
+            metricIds.addAll(List.of(clause));
+        }
+    }
+
+    /**
+     * @return the parsed condition, or null when the JSON is not a matrix
+     */
+    static ActionCondition parse(String condition, JsonMapper jsonMapper) {
+        List<?> rows;
+        try {
+            rows = jsonMapper.readValue(condition, List.class);
+        } catch (JacksonException e) {
+            return null;
+        }
+        if (rows == null) {
+            return null;
+        }
+        String[][] clauses = new String[rows.size()][];
+        for (int i = 0; i < rows.size(); i++) {
+            if (!(rows.get(i) instanceof List<?> row) || row.isEmpty()) {
+                return null;
+            }
+            clauses[i] = row.stream().map(String::valueOf).toArray(String[]::new);
+        }
+        return clauses.length == 0 ? null : new ActionCondition(clauses);
+    }
+
+    Set<String> metricIds() {
+        return metricIds;
+    }
+
+    /**
+     * @return the first metric of the satisfied clause, or null when no clause is satisfied
+     */
+    MetricStatus evaluate(Map<String, MetricStatus> statuses) {
+        for (String[] clause : clauses) {
+            MetricStatus first = null;
+            for (String id : clause) {
+                MetricStatus status = statuses.get(id);
+                if (status == null || !status.isTriggered()) {
+                    first = null;
+                    break;
+                }
+                if (first == null) {
+                    first = status;
+                }
+            }
+            if (first != null) {
+                return first;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.alerthub.actionservice.scheduler;
+
+import com.alerthub.actionservice.model.Action;
+
+/**
+ * Sends a triggered action to its recipient.
+ */
+public interface ActionDispatcher {
+
+    void dispatch(Action action, String message);
+}
@@ -0,0 +1,19 @@
+package com.alerthub.actionservice.scheduler;
+
+import com.alerthub.actionservice.model.Action;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default dispatcher until email / SMS delivery is wired in: logs what would be sent.
+ */
+@Slf4j
+@Component
+public class LoggingActionDispatcher implements ActionDispatcher {
+
+    @Override
+    public void dispatch(Action action, String message) {
+        log.info("{} to {} for action {}: {}",
+                action.getActionType(), action.getRecipient(), action.getId(), message);
+    }
+}
@@ -0,0 +1,57 @@
+package com.alerthub.actionservice.scheduler;
+
+import com.alerthub.actionservice.dto.MetricStatus;
+import com.alerthub.actionservice.model.Action;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Actions of an upcoming slot with their metrics prefetched and conditions pre-evaluated.
+ *
+ * @param slot      the half-hour boundary the actions run at
+ * @param fetchedAt when metrics were fetched; the boundary refresh asks for changes since then
+ * @param actions   actions due in the slot
+ * @param metricIds every metric referenced by the actions
+ * @param statuses  metric statuses by id, updated in place by the boundary refresh
+ */
+record PreparedSlot(
+        LocalDateTime slot,
+        LocalDateTime fetchedAt,
+        List<PlannedAction> actions,
+        Set<String> metricIds,
+        Map<String, MetricStatus> statuses
+) {
+
+    static final class PlannedAction {
+
+        private final Action action;
+        private final ActionCondition condition;
+
+        // Metric reported in the message, null while the condition is not met
+        private MetricStatus trigger;
+
+        PlannedAction(Action action, ActionCondition condition) {
+            this.action = action;
+            this.condition = condition;
+        }
+
+        Action action() {
+            return action;
+        }
+
+        ActionCondition condition() {
+            return condition;
+        }
+
+        MetricStatus trigger() {
+            return trigger;
+        }
+
+        void evaluate(Map<String, MetricStatus> statuses) {
+            trigger = condition.evaluate(statuses);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.alerthub.actionservice.scheduler;
+
+import com.alerthub.actionservice.client.MetricClient;
+import com.alerthub.actionservice.dto.MetricStatus;
+import com.alerthub.actionservice.enums.RunOnDay;
+import com.alerthub.actionservice.model.Action;
+import com.alerthub.actionservice.scheduler.PreparedSlot.PlannedAction;
+import com.alerthub.actionservice.service.ActionService;
+import com.alerthub.actionservice.template.MessageTemplateRegistry;
+import com.alerthub.actionservice.template.SlotRenderCache;
+import com.alerthub.actionservice.template.TemplateValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs actions on the :00 / :30 boundaries.
+ * <p>
+ * Every slot is prepared {@code actions.scheduler.lead-minutes} early: due
+ * actions are resolved, their metrics fetched with the counting window
+ * already ending at the slot, and conditions evaluated. At the boundary only
+ * metrics that changed during the lead window are fetched again, the affected
+ * conditions re-evaluated, and triggered actions dispatched. A slot whose
+ * early prepare failed is prepared again at the boundary.
+ * <p>
+ * With several instances, each one prepares every slot, but an action is only
+ * dispatched by the instance that claims it (sets {@code lastRun}) first.
+ * Claims happen before sending, so delivery is at most once: an action whose
+ * dispatch fails after the claim is not retried in that slot. An action
+ * disabled or deleted during the lead window is not claimed; other edits
+ * made during the lead window are not re-read.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotScheduler {
+
+    private static final int SLOT_MINUTES = 30;
+
+    private final ActionService actionService;
+    private final MetricClient metricClient;
+    private final MessageTemplateRegistry messageTemplateRegistry;
+    private final ActionDispatcher actionDispatcher;
+    private final TaskScheduler taskScheduler;
+    private final JsonMapper jsonMapper;
+
+    private final Map<LocalDateTime, CompletableFuture<PreparedSlot>> pending = new ConcurrentHashMap<>();
+
+    @Value("${actions.scheduler.lead-minutes:5}")
+    private int leadMinutes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        schedule(nextSlot(LocalDateTime.now()));
+    }
+
+    static LocalDateTime nextSlot(LocalDateTime now) {
+        LocalDateTime hour = now.truncatedTo(ChronoUnit.HOURS);
+        return hour.plusMinutes(now.getMinute() < SLOT_MINUTES ? SLOT_MINUTES : 2 * SLOT_MINUTES);
+    }
+
+    private void schedule(LocalDateTime slot) {
+        int lead = Math.clamp(leadMinutes, 0, SLOT_MINUTES - 1);
+        CompletableFuture<PreparedSlot> future = new CompletableFuture<>();
+        pending.put(slot, future);
+
+        // A prepare time already in the past runs immediately
+        taskScheduler.schedule(() -> prepareInto(slot, future), toInstant(slot.minusMinutes(lead)));
+        taskScheduler.schedule(() -> fire(slot), toInstant(slot));
+    }
+
+    // ===== LEAD WINDOW =====
+
+    private void prepareInto(LocalDateTime slot, CompletableFuture<PreparedSlot> future) {
+        synchronized (future) {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(prepare(slot));
+            } catch (RuntimeException e) {
+                log.warn("Preparing slot {} failed", slot, e);
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private PreparedSlot prepare(LocalDateTime slot) {
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        RunOnDay day = RunOnDay.valueOf(slot.getDayOfWeek().name());
+
+        List<PlannedAction> planned = new ArrayList<>();
+        Set<String> metricIds = new LinkedHashSet<>();
+        for (Action action : actionService.getActionsToRun(slot.toLocalTime(), day)) {
+            ActionCondition condition;
+            try {
+                condition = ActionCondition.parse(action.getCondition(), jsonMapper);
+            } catch (RuntimeException e) {
+                log.warn("Skipping action {}: condition could not be parsed", action.getId(), e);
+                continue;
+            }
+            if (condition == null) {
+                log.warn("Skipping action {}: condition is not a matrix", action.getId());
+                continue;
+            }
+            planned.add(new PlannedAction(action, condition));
+            metricIds.addAll(condition.metricIds());
+        }
+
+        Map<String, MetricStatus> statuses = new HashMap<>();
+        for (MetricStatus status : metricClient.getStatus(metricIds, slot, null)) {
+            statuses.put(status.getId(), status);
+        }
+        for (PlannedAction action : planned) {
+            action.evaluate(statuses);
+        }
+
+        log.debug("Prepared slot {}: {} actions, {} metrics", slot, planned.size(), metricIds.size());
+        return new PreparedSlot(slot, fetchedAt, planned, metricIds, statuses);
+    }
+
+    // ===== BOUNDARY =====
+
+    private void fire(LocalDateTime slot) {
+        long boundary = System.nanoTime();
+        schedule(slot.plusMinutes(SLOT_MINUTES));
+
+        CompletableFuture<PreparedSlot> future = pending.remove(slot);
+        // Waits for a prepare in progress, or prepares now if it never ran
+        prepareInto(slot, future);
+        PreparedSlot prepared;
+        try {
+            prepared = future.join();
+        } catch (CompletionException e) {
+            log.warn("Slot {}: early prepare failed, preparing again at the boundary", slot);
+            try {
+                prepared = prepare(slot);
+            } catch (RuntimeException retry) {
+                log.error("Slot {} skipped, could not be prepared", slot, retry);
+                return;
+            }
+        }
+
+        refresh(prepared);
+        int sent = dispatch(prepared);
+
+        log.info("Slot {}: dispatched {} of {} actions in {} ms after the boundary",
+                slot, sent, prepared.actions().size(), (System.nanoTime() - boundary) / 1_000_000);
+    }
+
+    // Re-fetch metrics changed during the lead window and re-evaluate only their actions
+    private void refresh(PreparedSlot prepared) {
+        List<MetricStatus> changed;
+        try {
+            changed = metricClient.getStatus(prepared.metricIds(), prepared.slot(), prepared.fetchedAt());
+        } catch (RuntimeException e) {
+            log.warn("Slot {}: using pre-evaluated conditions, refresh failed", prepared.slot(), e);
+            return;
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        Set<String> changedIds = new HashSet<>();
+        for (MetricStatus status : changed) {
+            prepared.statuses().put(status.getId(), status);
+            changedIds.add(status.getId());
+        }
+        for (PlannedAction action : prepared.actions()) {
+            if (!Collections.disjoint(action.condition().metricIds(), changedIds)) {
+                action.evaluate(prepared.statuses());
+            }
+        }
+    }
+
+    private int dispatch(PreparedSlot prepared) {
+        Map<UUID, PlannedAction> triggered = new HashMap<>();
+        for (PlannedAction planned : prepared.actions()) {
+            if (planned.trigger() != null) {
+                triggered.put(planned.action().getId(), planned);
+            }
+        }
+        // Only actions this instance claimed are sent
+        List<UUID> claimed;
+        try {
+            claimed = actionService.claimRun(triggered.keySet(), prepared.slot());
+        } catch (RuntimeException e) {
+            log.error("Slot {}: nothing dispatched, claiming {} actions failed",
+                    prepared.slot(), triggered.size(), e);
+            return 0;
+        }
+
+        SlotRenderCache renderCache = new SlotRenderCache();
+        int sent = 0;
+        for (UUID id : claimed) {
+            PlannedAction planned = triggered.get(id);
+            MetricStatus trigger = planned.trigger();
+            Action action = planned.action();
+            try {
+                String message = messageTemplateRegistry.render(action, new TemplateValues(
+                        trigger.getName(),
+                        trigger.getCount(),
+                        trigger.getThreshold(),
+                        trigger.getTimeFrameHours()
+                ), renderCache);
+                actionDispatcher.dispatch(action, message);
+                sent++;
+            } catch (RuntimeException e) {
+                log.error("Dispatching action {} failed", action.getId(), e);
+            }
+        }
+        return sent;
+    }
+
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,15 @@
+package com.alerthub.actionservice.service;
+
+import com.alerthub.actionservice.enums.ImportFormat;
+import com.alerthub.actionservice.importer.ImportJob;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+public interface ActionImportService {
+
+    // Start importing an uploaded CSV / NDJSON file in the background
+    ImportJob start(MultipartFile file, ImportFormat format, Integer batchSize);
+
+    ImportJob getJob(UUID id);
+}
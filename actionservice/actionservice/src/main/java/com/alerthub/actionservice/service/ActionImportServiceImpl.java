@@ -0,0 +1,107 @@
+package com.alerthub.actionservice.service;
+
+import com.alerthub.actionservice.enums.ImportFormat;
+import com.alerthub.actionservice.exception.ImportJobNotFoundException;
+import com.alerthub.actionservice.exception.InvalidActionException;
+import com.alerthub.actionservice.importer.ActionImporter;
+import com.alerthub.actionservice.importer.ImportJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class ActionImportServiceImpl implements ActionImportService {
+
+    private final ActionImporter actionImporter;
+    private final TaskExecutor applicationTaskExecutor;
+
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${actions.import.batch-size:500}")
+    private int defaultBatchSize;
+
+    @Value("${actions.import.max-batch-size:5000}")
+    private int maxBatchSize;
+
+    @Value("${actions.import.work-dir:${java.io.tmpdir}}")
+    private Path workDir;
+
+    @Value("${actions.import.retention-hours:24}")
+    private int retentionHours;
+
+    @Override
+    public ImportJob start(MultipartFile file, ImportFormat format, Integer batchSize) {
+        if (file.isEmpty()) {
+            throw new InvalidActionException("Import file is empty");
+        }
+        int size = batchSize == null ? defaultBatchSize : batchSize;
+        if (size < 1 || size > maxBatchSize) {
+            throw new InvalidActionException("batchSize must be between 1 and " + maxBatchSize);
+        }
+        ImportFormat resolved = format != null ? format : formatOf(file.getOriginalFilename());
+
+        evictExpiredJobs();
+
+        ImportJob job = new ImportJob(resolved, size, workDir);
+        Path upload;
+        try {
+            // Spring already spooled the upload to disk; keep our own copy for the background worker
+            upload = Files.createTempFile(workDir, "action-import-" + job.getId() + "-", ".upload");
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store import file", e);
+        }
+
+        jobs.put(job.getId(), job);
+        applicationTaskExecutor.execute(() -> actionImporter.run(job, upload));
+        return job;
+    }
+
+    @Override
+    public ImportJob getJob(UUID id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import job not found with id: " + id);
+        }
+        return job;
+    }
+
+    private ImportFormat formatOf(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return ImportFormat.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ImportFormat.NDJSON;
+        }
+        throw new InvalidActionException("Cannot detect import format; pass format=CSV or format=NDJSON");
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> {
+            if (job.getFinishedAt() == null || job.getFinishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            try {
+                Files.deleteIfExists(job.getErrorFile());
+            } catch (IOException ignored) {
+                // Best effort, the file lives in a temp directory
+            }
+            return true;
+        });
+    }
+}
@@ -3,7 +3,9 @@ package com.alerthub.actionservice.service;
 import com.alerthub.actionservice.model.Action;
 import com.alerthub.actionservice.enums.RunOnDay;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,4 +30,11 @@ public interface ActionService {
     // ===== SCHEDULING =====
 
     List<Action> getActionsToRun(LocalTime time, RunOnDay day);
+
+    // Marks the actions as run in the slot; returns those no other instance claimed first
+    List<UUID> claimRun(Collection<UUID> ids, LocalDateTime slot);
+
+    // ===== VALIDATION =====
+
+    void validate(Action action);
 }
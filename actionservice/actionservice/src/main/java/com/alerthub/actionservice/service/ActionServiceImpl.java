@@ -1,4 +1,6 @@
 package com.alerthub.actionservice.service;
+import com.alerthub.actionservice.changes.ActionChangeLog;
+import com.alerthub.actionservice.enums.ActionChangeType;
 import com.alerthub.actionservice.enums.RunOnDay;
 import com.alerthub.actionservice.exception.ActionNotFoundException;
 import com.alerthub.actionservice.exception.InvalidActionException;
@@ -6,11 +8,15 @@ import com.alerthub.actionservice.model.Action;
 import com.alerthub.actionservice.enums.RunOnDay;
 
 import com.alerthub.actionservice.repository.ActionRepository;
+import com.alerthub.actionservice.template.MessageTemplateRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,15 +25,21 @@ import java.util.UUID;
 public class ActionServiceImpl implements ActionService{
 
     private final ActionRepository actionRepository;
+    private final MessageTemplateRegistry messageTemplateRegistry;
+    private final ActionChangeLog actionChangeLog;
 
     @Override
+    @Transactional
     public Action create(Action action) {
         validateAction(action);
-        return actionRepository.save(action);
+        Action saved = actionRepository.save(action);
+        actionChangeLog.record(saved, ActionChangeType.CREATED);
+        return saved;
 
     }
 
     @Override
+    @Transactional
     public Action update(UUID id, Action updatedAction) {
         Action existing = getById(id);
         existing.setName(updatedAction.getName());
@@ -40,7 +52,10 @@ public class ActionServiceImpl implements ActionService{
 
         validateAction(existing);
 
-        return actionRepository.save(existing);
+        // Flush so lastUpdate in the change payload is current
+        Action saved = actionRepository.saveAndFlush(existing);
+        actionChangeLog.record(saved, ActionChangeType.UPDATED);
+        return saved;
 
     }
 
@@ -59,16 +74,23 @@ public class ActionServiceImpl implements ActionService{
     }
 
     @Override
+    @Transactional
     public void softDelete(UUID id) {
         Action action=getById(id);
         action.setDeleted(true);
-        actionRepository.save(action);
+        Action saved = actionRepository.saveAndFlush(action);
+        actionChangeLog.record(saved, ActionChangeType.DELETED);
 
     }
 
     @Override
+    @Transactional
     public Action setEnabled(UUID id, boolean enabled) {
-        return null;
+        Action action = getById(id);
+        action.setEnabled(enabled);
+        Action saved = actionRepository.saveAndFlush(action);
+        actionChangeLog.record(saved, enabled ? ActionChangeType.ENABLED : ActionChangeType.DISABLED);
+        return saved;
     }
     // ===== SCHEDULING =====
 
@@ -77,8 +99,28 @@ public class ActionServiceImpl implements ActionService{
         return actionRepository.findActionsToRun(time, day);
     }
 
+    @Override
+    @Transactional
+    public List<UUID> claimRun(Collection<UUID> ids, LocalDateTime slot) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> claimed = actionRepository.lockNotRunSince(ids, slot).stream()
+                .map(Action::getId)
+                .toList();
+        if (!claimed.isEmpty()) {
+            actionRepository.markRun(claimed, slot);
+        }
+        return claimed;
+    }
+
     // ===== VALIDATION =====
 
+    @Override
+    public void validate(Action action) {
+        validateAction(action);
+    }
+
     private void validateAction(Action action) {
 
         if (action.getRunOnTime().getMinute() % 30 != 0) {
@@ -90,6 +132,9 @@ public class ActionServiceImpl implements ActionService{
         if (action.getCondition() == null || action.getCondition().isBlank()) {
             throw new InvalidActionException("Condition matrix cannot be empty");
         }
+
+        // Parse placeholders once here instead of on every send
+        messageTemplateRegistry.compile(action.getMessage());
     }
 
 }
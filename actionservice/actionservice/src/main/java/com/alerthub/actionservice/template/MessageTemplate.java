@@ -0,0 +1,105 @@
+package com.alerthub.actionservice.template;
+
+import com.alerthub.actionservice.exception.InvalidActionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A message template compiled into alternating literal and placeholder segments:
+ * {@code literals[0] slot[0] literals[1] slot[1] ... literals[n]}.
+ * Rendering is a single pass over the segments into a pre-sized builder.
+ */
+public final class MessageTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // Room reserved per placeholder when sizing the output
+    private static final int VALUE_ESTIMATE = 16;
+
+    private final String source;
+    private final String[] literals;
+    private final TemplatePlaceholder[] slots;
+    private final int literalLength;
+
+    private MessageTemplate(String source, String[] literals, TemplatePlaceholder[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses and validates a template.
+     *
+     * @throws InvalidActionException on an unclosed or unknown placeholder
+     */
+    public static MessageTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<TemplatePlaceholder> slots = new ArrayList<>();
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, pos);
+            if (open < 0) {
+                literals.add(source.substring(pos));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new InvalidActionException(
+                        "Message has an unclosed placeholder at position " + open
+                );
+            }
+            String key = source.substring(open + OPEN.length(), close).trim();
+            TemplatePlaceholder placeholder = TemplatePlaceholder.fromKey(key);
+            if (placeholder == null) {
+                throw new InvalidActionException(
+                        "Unknown message placeholder {{" + key + "}}, allowed: "
+                                + Arrays.stream(TemplatePlaceholder.values())
+                                .map(TemplatePlaceholder::getKey)
+                                .toList()
+                );
+            }
+            literals.add(source.substring(pos, open));
+            slots.add(placeholder);
+            pos = close + CLOSE.length();
+        }
+        return new MessageTemplate(
+                source,
+                literals.toArray(String[]::new),
+                slots.toArray(TemplatePlaceholder[]::new)
+        );
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public boolean hasPlaceholders() {
+        return slots.length > 0;
+    }
+
+    public String render(TemplateValues values) {
+        if (slots.length == 0) {
+            return source;
+        }
+        StringBuilder out = new StringBuilder(literalLength + slots.length * VALUE_ESTIMATE);
+        out.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            switch (slots[i]) {
+                case METRIC_NAME -> out.append(values.metricName());
+                case COUNT -> out.append(values.count());
+                case THRESHOLD -> out.append(values.threshold());
+                case WINDOW -> out.append(values.window());
+            }
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+}
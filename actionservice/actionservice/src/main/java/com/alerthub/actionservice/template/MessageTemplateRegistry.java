@@ -0,0 +1,45 @@
+package com.alerthub.actionservice.template;
+
+import com.alerthub.actionservice.model.Action;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled message templates keyed by their source text.
+ * Templates are compiled when an action is created or updated; actions
+ * loaded after a restart are compiled on first use.
+ */
+@Component
+public class MessageTemplateRegistry {
+
+    private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
+    @Value("${actions.template.cache-size:10000}")
+    private int maxTemplates;
+
+    /**
+     * Compiles (or reuses) the template for a message.
+     *
+     * @throws com.alerthub.actionservice.exception.InvalidActionException if the template is invalid
+     */
+    public MessageTemplate compile(String message) {
+        MessageTemplate cached = templates.get(message);
+        if (cached != null) {
+            return cached;
+        }
+        MessageTemplate compiled = MessageTemplate.compile(message);
+        if (templates.size() >= maxTemplates) {
+            // Old sources of edited actions pile up here; start over rather than track usage
+            templates.clear();
+        }
+        MessageTemplate existing = templates.putIfAbsent(message, compiled);
+        return existing != null ? existing : compiled;
+    }
+
+    public String render(Action action, TemplateValues values, SlotRenderCache cache) {
+        return cache.render(compile(action.getMessage()), values);
+    }
+}
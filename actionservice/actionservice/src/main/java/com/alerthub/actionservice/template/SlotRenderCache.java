@@ -0,0 +1,32 @@
+package com.alerthub.actionservice.template;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Render results shared by all actions dispatched in one schedule slot.
+ * Identical (template, values) pairs are rendered once; create a new
+ * cache per slot and drop it afterwards.
+ */
+public class SlotRenderCache {
+
+    private final Map<RenderKey, String> rendered = new ConcurrentHashMap<>();
+
+    public String render(MessageTemplate template, TemplateValues values) {
+        if (!template.hasPlaceholders()) {
+            return template.getSource();
+        }
+        return rendered.computeIfAbsent(
+                new RenderKey(template, values),
+                key -> key.template().render(key.values())
+        );
+    }
+
+    public int size() {
+        return rendered.size();
+    }
+
+    // Templates are interned by MessageTemplateRegistry, so identity equality is enough
+    private record RenderKey(MessageTemplate template, TemplateValues values) {
+    }
+}
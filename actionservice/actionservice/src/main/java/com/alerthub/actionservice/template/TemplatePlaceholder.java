@@ -0,0 +1,30 @@
+package com.alerthub.actionservice.template;
+
+/**
+ * Placeholders allowed in an action message, written as {@code {{name}}}.
+ */
+public enum TemplatePlaceholder {
+    METRIC_NAME("metricName"),
+    COUNT("count"),
+    THRESHOLD("threshold"),
+    WINDOW("window");
+
+    private final String key;
+
+    TemplatePlaceholder(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    static TemplatePlaceholder fromKey(String key) {
+        for (TemplatePlaceholder placeholder : values()) {
+            if (placeholder.key.equals(key)) {
+                return placeholder;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.alerthub.actionservice.template;
+
+/**
+ * Values substituted into a message template at send time.
+ * Being a record, it doubles as part of the per-slot render cache key.
+ *
+ * @param metricName name of the metric that triggered the action
+ * @param count      number of events counted in the window
+ * @param threshold  metric threshold
+ * @param window     metric time frame in hours
+ */
+public record TemplateValues(String metricName, long count, int threshold, int window) {
+}
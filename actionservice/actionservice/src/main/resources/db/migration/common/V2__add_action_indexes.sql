@@ -0,0 +1,15 @@
+-- Indexes for ActionRepository / ActionChangeRepository queries.
+-- ActionRepositoryQueryPlanTest fails if one of them stops being used.
+
+-- findActionsToRun: equality on run_on_time, then run_on_day (day or ALL),
+-- enabled and deleted filtered inside the index
+CREATE INDEX idx_actions_schedule ON actions (run_on_time, run_on_day, enabled, deleted);
+
+-- findByUserIdAndDeletedFalse, findByUserId
+CREATE INDEX idx_actions_user ON actions (user_id, deleted);
+
+-- findSupersededBefore (compaction): EXISTS probe for a newer entry of the same action
+CREATE INDEX idx_action_changes_action ON action_changes (action_id, sequence);
+
+-- findSupersededBefore (compaction): entries older than the retention
+CREATE INDEX idx_action_changes_created ON action_changes (created_at);
@@ -0,0 +1,40 @@
+-- H2 counterpart of mysql/V1, used by the query plan tests.
+-- Keep both files in sync; indexes live in common/.
+
+CREATE TABLE actions (
+    id           UUID         NOT NULL,
+    user_id      INT          NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    "condition"  CLOB         NOT NULL,
+    action_type  VARCHAR(16)  NOT NULL,
+    "to"         VARCHAR(255) NOT NULL,
+    message      VARCHAR(500) NOT NULL,
+    run_on_time  TIME         NOT NULL,
+    run_on_day   VARCHAR(16)  NOT NULL,
+    enabled      BOOLEAN      NOT NULL,
+    deleted      BOOLEAN      NOT NULL,
+    create_date  TIMESTAMP(6) NOT NULL,
+    last_update  TIMESTAMP(6) NOT NULL,
+    last_run     TIMESTAMP(6),
+    import_key   VARCHAR(64),
+    CONSTRAINT pk_actions PRIMARY KEY (id),
+    CONSTRAINT uk_actions_import_key UNIQUE (import_key)
+);
+
+CREATE TABLE action_changes (
+    sequence     BIGINT       NOT NULL,
+    action_id    UUID         NOT NULL,
+    user_id      INT          NOT NULL,
+    type         VARCHAR(16)  NOT NULL,
+    payload      CLOB         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_action_changes PRIMARY KEY (sequence)
+);
+
+CREATE TABLE action_change_sequence (
+    id            INT    NOT NULL,
+    last_sequence BIGINT NOT NULL,
+    CONSTRAINT pk_action_change_sequence PRIMARY KEY (id)
+);
+
+INSERT INTO action_change_sequence (id, last_sequence) VALUES (1, 0);
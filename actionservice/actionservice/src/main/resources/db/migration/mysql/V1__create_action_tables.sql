@@ -0,0 +1,40 @@
+-- Baseline schema, previously generated by ddl-auto=create.
+-- `condition` and `to` are reserved words in MySQL and must stay quoted.
+
+CREATE TABLE actions (
+    id           BINARY(16)   NOT NULL,
+    user_id      INT          NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    `condition`  TEXT         NOT NULL,
+    action_type  VARCHAR(16)  NOT NULL,
+    `to`         VARCHAR(255) NOT NULL,
+    message      VARCHAR(500) NOT NULL,
+    run_on_time  TIME         NOT NULL,
+    run_on_day   VARCHAR(16)  NOT NULL,
+    enabled      BIT(1)       NOT NULL,
+    deleted      BIT(1)       NOT NULL,
+    create_date  DATETIME(6)  NOT NULL,
+    last_update  DATETIME(6)  NOT NULL,
+    last_run     DATETIME(6),
+    import_key   VARCHAR(64),
+    CONSTRAINT pk_actions PRIMARY KEY (id),
+    CONSTRAINT uk_actions_import_key UNIQUE (import_key)
+);
+
+CREATE TABLE action_changes (
+    sequence     BIGINT       NOT NULL,
+    action_id    BINARY(16)   NOT NULL,
+    user_id      INT          NOT NULL,
+    type         VARCHAR(16)  NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    CONSTRAINT pk_action_changes PRIMARY KEY (sequence)
+);
+
+CREATE TABLE action_change_sequence (
+    id            INT    NOT NULL,
+    last_sequence BIGINT NOT NULL,
+    CONSTRAINT pk_action_change_sequence PRIMARY KEY (id)
+);
+
+INSERT INTO action_change_sequence (id, last_sequence) VALUES (1, 0);
@@ -0,0 +1,111 @@
+package com.alerthub.actionservice.changes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compacts a hand-written change log in H2 (schema from the Flyway migrations).
+ * Retention is the default 168 hours.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class ActionChangeCompactorTest {
+
+    private static final String INSERT = """
+            INSERT INTO action_changes (sequence, action_id, user_id, type, payload, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final LocalDateTime OLD = LocalDateTime.now().minusDays(30);
+    private static final LocalDateTime RECENT = LocalDateTime.now().minusHours(1);
+
+    @Autowired
+    private ActionChangeCompactor actionChangeCompactor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long sequence;
+
+    @BeforeEach
+    void clearChanges() {
+        jdbcTemplate.update("DELETE FROM action_changes");
+        sequence = 0;
+    }
+
+    @Test
+    void removesOnlyOldEntriesWithANewerOneForTheSameAction() {
+        UUID recentlyEdited = UUID.randomUUID();
+        change(recentlyEdited, OLD);
+        change(recentlyEdited, OLD);
+        long editedLatest = change(recentlyEdited, RECENT);
+
+        UUID untouched = UUID.randomUUID();
+        long untouchedOnly = change(untouched, OLD);
+
+        UUID idle = UUID.randomUUID();
+        change(idle, OLD);
+        // Superseded, but still inside the retention
+        long idleRecent1 = change(idle, RECENT);
+        long idleRecent2 = change(idle, RECENT);
+
+        UUID oldOnly = UUID.randomUUID();
+        change(oldOnly, OLD);
+        long oldOnlyLatest = change(oldOnly, OLD);
+
+        actionChangeCompactor.compact();
+
+        // The latest entry of every action survives however old it is
+        assertEquals(List.of(editedLatest, untouchedOnly, idleRecent1, idleRecent2, oldOnlyLatest), remaining());
+    }
+
+    @Test
+    void compactsMoreThanOneDeleteBatch() {
+        UUID action = UUID.randomUUID();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            rows.add(row(action, OLD));
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+
+        actionChangeCompactor.compact();
+
+        assertEquals(List.of(2_500L), remaining());
+    }
+
+    @Test
+    void nothingToCompactLeavesTheLogAlone() {
+        long first = change(UUID.randomUUID(), OLD);
+        long second = change(UUID.randomUUID(), RECENT);
+
+        actionChangeCompactor.compact();
+
+        assertEquals(List.of(first, second), remaining());
+    }
+
+    private long change(UUID action, LocalDateTime createdAt) {
+        Object[] row = row(action, createdAt);
+        jdbcTemplate.update(INSERT, row);
+        return (long) row[0];
+    }
+
+    private Object[] row(UUID action, LocalDateTime createdAt) {
+        return new Object[]{++sequence, action, 7, "UPDATED", "{}", Timestamp.valueOf(createdAt)};
+    }
+
+    private List<Long> remaining() {
+        return jdbcTemplate.queryForList("SELECT sequence FROM action_changes ORDER BY sequence", Long.class);
+    }
+}
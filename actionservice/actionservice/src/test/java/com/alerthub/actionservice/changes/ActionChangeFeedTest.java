@@ -0,0 +1,216 @@
+package com.alerthub.actionservice.changes;
+
+import com.alerthub.actionservice.dto.ActionChangeFeedResponse;
+import com.alerthub.actionservice.dto.ActionChangeResponse;
+import com.alerthub.actionservice.enums.ActionChangeType;
+import com.alerthub.actionservice.enums.ActionType;
+import com.alerthub.actionservice.enums.RunOnDay;
+import com.alerthub.actionservice.model.Action;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes through the change log and reads the feed back from H2 (schema from the Flyway migrations).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class ActionChangeFeedTest {
+
+    @Autowired
+    private ActionChangeLog actionChangeLog;
+
+    @Autowired
+    private ActionChangeFeed actionChangeFeed;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The sequence row outlives cleared tables, so every test starts after it
+    private long start;
+
+    @BeforeEach
+    void clearChanges() {
+        jdbcTemplate.update("DELETE FROM action_changes");
+        start = jdbcTemplate.queryForObject(
+                "SELECT last_sequence FROM action_change_sequence WHERE id = 1", Long.class);
+    }
+
+    @Test
+    void recordAllTakesConsecutiveSequences() {
+        List<Action> actions = List.of(action(1), action(2), action(3));
+
+        transactionTemplate.executeWithoutResult(status ->
+                actionChangeLog.recordAll(actions, ActionChangeType.CREATED));
+
+        ActionChangeFeedResponse page = actionChangeFeed.read(start, 10);
+        assertEquals(List.of(start + 1, start + 2, start + 3), sequences(page));
+        assertEquals(actions.stream().map(Action::getId).toList(),
+                page.getChanges().stream().map(ActionChangeResponse::getActionId).toList());
+        assertTrue(page.getChanges().getFirst().getAction().contains("\"name\":\"Action 1\""));
+    }
+
+    @Test
+    void pagesFollowLastSequenceUntilNothingIsLeft() {
+        for (int i = 0; i < 5; i++) {
+            record(action(i));
+        }
+
+        ActionChangeFeedResponse first = actionChangeFeed.read(start, 2);
+        assertEquals(List.of(start + 1, start + 2), sequences(first));
+        assertEquals(start + 2, first.getLastSequence());
+        assertTrue(first.isHasMore());
+
+        ActionChangeFeedResponse second = actionChangeFeed.read(first.getLastSequence(), 2);
+        assertEquals(List.of(start + 3, start + 4), sequences(second));
+        assertTrue(second.isHasMore());
+
+        // Exactly the remaining entry: no extra row, so no more
+        ActionChangeFeedResponse third = actionChangeFeed.read(second.getLastSequence(), 2);
+        assertEquals(List.of(start + 5), sequences(third));
+        assertEquals(start + 5, third.getLastSequence());
+        assertFalse(third.isHasMore());
+
+        // Caught up: the cursor stays where it was
+        ActionChangeFeedResponse empty = actionChangeFeed.read(third.getLastSequence(), 2);
+        assertTrue(empty.getChanges().isEmpty());
+        assertEquals(start + 5, empty.getLastSequence());
+        assertFalse(empty.isHasMore());
+    }
+
+    @Test
+    void readerNeverSeesAGapWhileWritersRunConcurrently() throws Exception {
+        int writers = 4;
+        int perWriter = 25;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                running.add(pool.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        record(action(i));
+                    }
+                }));
+            }
+
+            // A later sequence must never become visible before an earlier one
+            Set<UUID> seen = new HashSet<>();
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                long after = start;
+                while (seen.size() < writers * perWriter) {
+                    ActionChangeFeedResponse page = actionChangeFeed.read(after, 7);
+                    for (ActionChangeResponse change : page.getChanges()) {
+                        assertEquals(after + 1, change.getSequence());
+                        after = change.getSequence();
+                        seen.add(change.getActionId());
+                    }
+                    assertEquals(after, page.getLastSequence());
+                }
+            });
+            for (Future<?> writer : running) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(writers * perWriter, seen.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitingPollIsWokenByACommit() {
+        DeferredResult<ActionChangeFeedResponse> result = actionChangeFeed.poll(start, 10, 10_000);
+        assertFalse(result.hasResult());
+
+        Action action = action(1);
+        record(action);
+
+        ActionChangeFeedResponse page = awaitResult(result);
+        assertEquals(List.of(start + 1), sequences(page));
+        assertEquals(action.getId(), page.getChanges().getFirst().getActionId());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotWakeOrShowUp() throws InterruptedException {
+        DeferredResult<ActionChangeFeedResponse> result = actionChangeFeed.poll(start, 10, 10_000);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            actionChangeLog.record(action(1), ActionChangeType.CREATED);
+            status.setRollbackOnly();
+        });
+        Thread.sleep(200);
+
+        assertFalse(result.hasResult());
+        assertTrue(actionChangeFeed.read(start, 10).getChanges().isEmpty());
+    }
+
+    @Test
+    void pollWithChangesAvailableReturnsAtOnce() {
+        record(action(1));
+
+        DeferredResult<ActionChangeFeedResponse> result = actionChangeFeed.poll(start, 10, 10_000);
+
+        assertTrue(result.hasResult());
+        assertEquals(List.of(start + 1), sequences((ActionChangeFeedResponse) result.getResult()));
+    }
+
+    private void record(Action action) {
+        transactionTemplate.executeWithoutResult(status ->
+                actionChangeLog.record(action, ActionChangeType.CREATED));
+    }
+
+    private static ActionChangeFeedResponse awaitResult(DeferredResult<ActionChangeFeedResponse> result) {
+        return assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (!result.hasResult()) {
+                Thread.sleep(10);
+            }
+            return (ActionChangeFeedResponse) result.getResult();
+        });
+    }
+
+    private static List<Long> sequences(ActionChangeFeedResponse page) {
+        return page.getChanges().stream().map(ActionChangeResponse::getSequence).toList();
+    }
+
+    private static Action action(int n) {
+        LocalDateTime now = LocalDateTime.now();
+        return Action.builder()
+                .id(UUID.randomUUID())
+                .userId(7)
+                .name("Action " + n)
+                .condition("[[" + n + "]]")
+                .actionType(ActionType.EMAIL)
+                .recipient("ops@example.com")
+                .message("{{metricName}} hit {{count}}")
+                .runOnTime(LocalTime.of(9, 30))
+                .runonday(RunOnDay.ALL)
+                .createDate(now)
+                .lastUpdate(now)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.alerthub.actionservice.importer;
+
+import com.alerthub.actionservice.enums.ImportFormat;
+import com.alerthub.actionservice.enums.ImportStatus;
+import com.alerthub.actionservice.model.Action;
+import com.alerthub.actionservice.repository.ActionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Runs imports against H2 (schema from the Flyway migrations).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class ActionImporterTest {
+
+    private static final String HEADER = "userId,name,condition,actionType,recipient,message,runOnTime,runonday\n";
+
+    @Autowired
+    private ActionImporter actionImporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private ActionRepository actionRepository;
+
+    @TempDir
+    private Path workDir;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.update("DELETE FROM action_changes");
+        jdbcTemplate.update("DELETE FROM actions");
+    }
+
+    @Test
+    void importingTheSameFileTwiceInsertsEachRowOnce() throws IOException {
+        String csv = HEADER
+                + row(1)
+                + row(2)
+                + "7,Broken,[[1]],EMAIL,ops@example.com,Hello,09:15,ALL\n"
+                + row(3);
+
+        ImportJob first = run(csv);
+        ImportJob second = run(csv);
+
+        assertEquals(ImportStatus.COMPLETED, first.getStatus());
+        assertEquals(3, first.getImported().get());
+        assertEquals(0, first.getSkipped().get());
+        assertEquals(1, first.getFailed().get());
+
+        assertEquals(ImportStatus.COMPLETED, second.getStatus());
+        assertEquals(0, second.getImported().get());
+        assertEquals(3, second.getSkipped().get());
+        assertEquals(1, second.getFailed().get());
+
+        assertEquals(3, count("actions"));
+        assertEquals(3, count("action_changes"));
+        // Imported actions are scheduled like ones created through the API
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM actions WHERE enabled = TRUE AND deleted = FALSE", Long.class));
+        assertEquals(List.of("line,error", "4,\"runOnTime must be on a full or half hour\""),
+                Files.readAllLines(second.getErrorFile()));
+    }
+
+    @Test
+    void duplicateRowsInOneFileAreInsertedOnce() throws IOException {
+        ImportJob job = run(HEADER + row(1) + row(1) + row(2), 2);
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getImported().get());
+        assertEquals(1, job.getSkipped().get());
+        assertEquals(2, count("actions"));
+    }
+
+    @Test
+    void retriesWithNewEntitiesWhenAConcurrentImportWonTheKeys() throws IOException {
+        run(HEADER + row(1) + row(2));
+
+        // The key check misses rows 1 and 2, as if another import committed them right after it.
+        // The retry goes to the real repository through the spy's delegating default answer.
+        Answer<?> repository = mockingDetails(actionRepository).getMockCreationSettings().getDefaultAnswer();
+        doReturn(List.of()).doAnswer(repository).when(actionRepository).findExistingImportKeys(any());
+        ImportJob job = run(HEADER + row(1) + row(2) + row(3) + row(4));
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertNull(job.getFailure());
+        assertEquals(2, job.getImported().get());
+        assertEquals(2, job.getSkipped().get());
+        assertEquals(4, count("actions"));
+        assertEquals(4, count("action_changes"));
+    }
+
+    @Test
+    void overLongFieldIsARowError() throws IOException {
+        String recipient = "a".repeat(256);
+        ImportJob job = run(HEADER + row(1)
+                + "7,Too long,[[2]],EMAIL," + recipient + ",Hello,09:30,ALL\n"
+                + row(3));
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getImported().get());
+        assertEquals(1, job.getFailed().get());
+        assertEquals(List.of("line,error", "3,\"recipient: Recipient must not exceed 255 characters\""),
+                Files.readAllLines(job.getErrorFile()));
+    }
+
+    @Test
+    void rowRejectedByTheDatabaseIsWrittenToTheErrorFileAndTheJobGoesOn() throws IOException {
+        // Stands in for a constraint validation does not know about
+        Answer<?> repository = mockingDetails(actionRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(call -> {
+            for (Action action : call.<Iterable<Action>>getArgument(0)) {
+                if (action.getName().equals("Action 3")) {
+                    throw new DataIntegrityViolationException("Value too long for column");
+                }
+            }
+            return repository.answer(call);
+        }).when(actionRepository).saveAllAndFlush(any());
+
+        ImportJob job = run(HEADER + row(1) + row(2) + row(3) + row(4) + row(5), 2);
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(4, job.getImported().get());
+        assertEquals(0, job.getSkipped().get());
+        assertEquals(1, job.getFailed().get());
+        assertEquals(4, count("actions"));
+        assertEquals(List.of("line,error", "4,\"Rejected by the database\""),
+                Files.readAllLines(job.getErrorFile()));
+    }
+
+    private ImportJob run(String csv) throws IOException {
+        return run(csv, 500);
+    }
+
+    private ImportJob run(String csv, int batchSize) throws IOException {
+        ImportJob job = new ImportJob(ImportFormat.CSV, batchSize, workDir);
+        Path upload = Files.createTempFile(workDir, "upload", ".csv");
+        Files.writeString(upload, csv);
+        actionImporter.run(job, upload);
+        return job;
+    }
+
+    private static String row(int n) {
+        return "7,Action " + n + ",\"[[" + n + "]]\",EMAIL,ops@example.com,{{metricName}} hit {{count}},09:30,ALL\n";
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,171 @@
+package com.alerthub.actionservice.importer;
+
+import com.alerthub.actionservice.enums.ActionType;
+import com.alerthub.actionservice.enums.RunOnDay;
+import com.alerthub.actionservice.exception.InvalidActionException;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvImportRowReaderTest {
+
+    private static final String HEADER = "userId,name,condition,actionType,recipient,message,runOnTime,runonday\n";
+
+    @Test
+    void readsPlainRow() throws IOException {
+        CsvImportRowReader reader = reader(HEADER + "7,Nightly,[[1]],email,ops@example.com,Hello,09:30,monday\n");
+
+        ImportRow row = reader.next();
+
+        assertNull(row.error());
+        assertEquals(2, row.line());
+        assertEquals(7, row.request().getUserId());
+        assertEquals("Nightly", row.request().getName());
+        assertEquals("[[1]]", row.request().getCondition());
+        assertEquals(ActionType.EMAIL, row.request().getActionType());
+        assertEquals("ops@example.com", row.request().getRecipient());
+        assertEquals("Hello", row.request().getMessage());
+        assertEquals(LocalTime.of(9, 30), row.request().getRunOnTime());
+        assertEquals(RunOnDay.MONDAY, row.request().getRunonday());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void quotedFieldsKeepCommasEscapedQuotesAndLineBreaks() throws IOException {
+        CsvImportRowReader reader = reader(HEADER
+                + "7,Nightly,\"[[1,2],[3]]\",EMAIL,ops@example.com,\"Say \"\"hi\"\",\nthen stop\",09:30,ALL\n");
+
+        ImportRow row = reader.next();
+
+        assertNull(row.error());
+        assertEquals("[[1,2],[3]]", row.request().getCondition());
+        assertEquals("Say \"hi\",\nthen stop", row.request().getMessage());
+    }
+
+    @Test
+    void rowsAreNumberedByTheirFirstPhysicalLine() throws IOException {
+        CsvImportRowReader reader = reader(HEADER
+                + "1,First,[[1]],SMS,123,\"two\nlines\",00:00,ALL\n"
+                + "\n"
+                + "2,Second,[[1]],SMS,123,one line,00:30,ALL\n"
+                + "3,Third,[[1]],SMS,123,\"three\nmore\nlines\",01:00,ALL\n"
+                + "4,Fourth,[[1]],SMS,123,last,01:30,ALL");
+
+        assertEquals(2, reader.next().line());
+        assertEquals(5, reader.next().line());
+        assertEquals(6, reader.next().line());
+        assertEquals(9, reader.next().line());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void crlfLineEndingsAreNotPartOfTheValues() throws IOException {
+        CsvImportRowReader reader = reader(HEADER.replace("\n", "\r\n")
+                + "7,Nightly,[[1]],EMAIL,ops@example.com,Hello,09:30,ALL\r\n");
+
+        ImportRow row = reader.next();
+
+        assertNull(row.error());
+        assertEquals(RunOnDay.ALL, row.request().getRunonday());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void wrongColumnCountIsARowError() throws IOException {
+        CsvImportRowReader reader = reader(HEADER
+                + "7,Nightly,[[1,2]],EMAIL,ops@example.com,Hello,09:30,ALL\n"
+                + "8,Daily,[[1]],EMAIL,ops@example.com,Hello,10:00,ALL\n");
+
+        ImportRow broken = reader.next();
+        ImportRow next = reader.next();
+
+        assertEquals(2, broken.line());
+        assertEquals("Expected 8 columns but found 9", broken.error());
+        assertNull(next.error());
+        assertEquals(8, next.request().getUserId());
+    }
+
+    @Test
+    void overLongRecordIsARowErrorAndTheNextRecordStillReads() throws IOException {
+        String longMessage = "\"" + "x\n".repeat(100) + "\"";
+        CsvImportRowReader reader = reader(HEADER
+                + "7,Nightly,[[1]],EMAIL,ops@example.com," + longMessage + ",09:30,ALL\n"
+                + "8,Daily,[[1]],EMAIL,ops@example.com,Hello,10:00,ALL\n", 150);
+
+        ImportRow broken = reader.next();
+        ImportRow next = reader.next();
+
+        assertEquals(2, broken.line());
+        assertEquals("Record is longer than 150 characters", broken.error());
+        assertNull(next.error());
+        assertEquals(103, next.line());
+        assertEquals(8, next.request().getUserId());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void unclosedQuoteFailsTheImport() throws IOException {
+        CsvImportRowReader reader = reader(HEADER
+                + "7,Nightly,[[1]],EMAIL,ops@example.com,Hello,09:30,ALL\n"
+                + "8,Daily,[[1]],EMAIL,ops@example.com,\"Hello,10:00,ALL\n"
+                + "9,Weekly,[[1]],EMAIL,ops@example.com,Hello,11:00,ALL\n");
+
+        assertNull(reader.next().error());
+        InvalidActionException e = assertThrows(InvalidActionException.class, reader::next);
+
+        assertEquals("Unclosed quote in the record starting at line 3", e.getMessage());
+    }
+
+    @Test
+    void headerColumnsMayBeReorderedAndExtended() throws IOException {
+        CsvImportRowReader reader = reader(
+                "externalId,runonday,runOnTime,message,recipient,actionType,condition,name,userId,notes\n"
+                        + "ext-1,ALL,09:30,Hello,ops@example.com,SMS,[[1]],Nightly,7,ignored\n");
+
+        ImportRow row = reader.next();
+
+        assertNull(row.error());
+        assertEquals("ext-1", row.externalId());
+        assertEquals(7, row.request().getUserId());
+        assertEquals(ActionType.SMS, row.request().getActionType());
+    }
+
+    @Test
+    void skipsUtf8ByteOrderMark() throws IOException {
+        CsvImportRowReader reader = reader("\uFEFF" + HEADER
+                + "7,Nightly,[[1]],EMAIL,ops@example.com,Hello,09:30,ALL\n");
+
+        ImportRow row = reader.next();
+
+        assertNull(row.error());
+        assertEquals(7, row.request().getUserId());
+    }
+
+    @Test
+    void missingColumnIsRejected() {
+        InvalidActionException e = assertThrows(InvalidActionException.class,
+                () -> reader("userId,name,condition,actionType,recipient,message,runOnTime\n"));
+
+        assertEquals("Import file is missing column: runonday", e.getMessage());
+    }
+
+    @Test
+    void emptyFileIsRejected() {
+        assertThrows(InvalidActionException.class, () -> reader(""));
+    }
+
+    private static CsvImportRowReader reader(String content) throws IOException {
+        return new CsvImportRowReader(new BufferedReader(new StringReader(content)));
+    }
+
+    private static CsvImportRowReader reader(String content, int maxRecordLength) throws IOException {
+        return new CsvImportRowReader(new BufferedReader(new StringReader(content)), maxRecordLength);
+    }
+}
@@ -0,0 +1,113 @@
+package com.alerthub.actionservice.importer;
+
+import com.alerthub.actionservice.enums.ActionType;
+import com.alerthub.actionservice.enums.RunOnDay;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ImportRowTest {
+
+    @Test
+    void mapsColumnsToRequest() {
+        ImportRow row = ImportRow.of(3, fields());
+
+        assertNull(row.error());
+        assertEquals(3, row.line());
+        assertEquals(7, row.request().getUserId());
+        assertEquals("Nightly", row.request().getName());
+        assertEquals("[[1,2],[3]]", row.request().getCondition());
+        assertEquals(ActionType.EMAIL, row.request().getActionType());
+        assertEquals("ops@example.com", row.request().getRecipient());
+        assertEquals("{{metricName}} fired", row.request().getMessage());
+        assertEquals(LocalTime.of(9, 30), row.request().getRunOnTime());
+        assertEquals(RunOnDay.ALL, row.request().getRunonday());
+        assertEquals("ext-1", row.externalId());
+    }
+
+    @Test
+    void trimsNumbersTimesAndEnumsAndIgnoresEnumCase() {
+        Map<String, String> fields = fields();
+        fields.put("userId", " 7 ");
+        fields.put("runOnTime", " 09:30 ");
+        fields.put("actionType", " sms ");
+        fields.put("runonday", "Friday");
+
+        ImportRow row = ImportRow.of(3, fields);
+
+        assertNull(row.error());
+        assertEquals(7, row.request().getUserId());
+        assertEquals(LocalTime.of(9, 30), row.request().getRunOnTime());
+        assertEquals(ActionType.SMS, row.request().getActionType());
+        assertEquals(RunOnDay.FRIDAY, row.request().getRunonday());
+    }
+
+    @Test
+    void blankValuesAreLeftToValidation() {
+        Map<String, String> fields = fields();
+        fields.put("userId", " ");
+        fields.put("runOnTime", "");
+        fields.put("actionType", "");
+        fields.put("externalId", " ");
+        fields.remove("runonday");
+
+        ImportRow row = ImportRow.of(3, fields);
+
+        assertNull(row.error());
+        assertNull(row.request().getUserId());
+        assertNull(row.request().getRunOnTime());
+        assertNull(row.request().getActionType());
+        assertNull(row.request().getRunonday());
+        assertNull(row.externalId());
+    }
+
+    @Test
+    void nonNumericUserIdIsARowError() {
+        Map<String, String> fields = fields();
+        fields.put("userId", "seven");
+
+        ImportRow row = ImportRow.of(3, fields);
+
+        assertNull(row.request());
+        assertEquals(3, row.line());
+        assertEquals("userId must be a number", row.error());
+    }
+
+    @Test
+    void malformedTimeIsARowError() {
+        Map<String, String> fields = fields();
+        fields.put("runOnTime", "9.30");
+
+        assertEquals("runOnTime must be formatted as HH:mm", ImportRow.of(3, fields).error());
+    }
+
+    @Test
+    void unknownEnumValueIsARowError() {
+        Map<String, String> actionType = fields();
+        actionType.put("actionType", "FAX");
+        Map<String, String> runOnDay = fields();
+        runOnDay.put("runonday", "WEEKDAYS");
+
+        assertEquals("Unknown ActionType: FAX", ImportRow.of(3, actionType).error());
+        assertEquals("Unknown RunOnDay: WEEKDAYS", ImportRow.of(3, runOnDay).error());
+    }
+
+    private static Map<String, String> fields() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("userId", "7");
+        fields.put("name", "Nightly");
+        fields.put("condition", "[[1,2],[3]]");
+        fields.put("actionType", "EMAIL");
+        fields.put("recipient", "ops@example.com");
+        fields.put("message", "{{metricName}} fired");
+        fields.put("runOnTime", "09:30");
+        fields.put("runonday", "ALL");
+        fields.put("externalId", "ext-1");
+        return fields;
+    }
+}
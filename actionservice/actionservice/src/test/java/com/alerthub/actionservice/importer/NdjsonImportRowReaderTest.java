@@ -0,0 +1,84 @@
+package com.alerthub.actionservice.importer;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NdjsonImportRowReaderTest {
+
+    private static final String ROW = """
+            {"userId":7,"name":"Nightly","condition":[[1,2],[3]],"actionType":"EMAIL",\
+            "recipient":"ops@example.com","message":"Hello","runOnTime":"09:30","runonday":"ALL"}
+            """;
+
+    @Test
+    void readsObjectPerLineAndKeepsNestedConditionAsJson() throws IOException {
+        NdjsonImportRowReader reader = reader(ROW);
+
+        ImportRow row = reader.next();
+
+        assertNull(row.error());
+        assertEquals(1, row.line());
+        assertEquals(7, row.request().getUserId());
+        assertEquals("[[1,2],[3]]", row.request().getCondition());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void skipsBlankLinesButCountsThem() throws IOException {
+        NdjsonImportRowReader reader = reader("\n" + ROW + "  \n" + ROW);
+
+        assertEquals(2, reader.next().line());
+        assertEquals(4, reader.next().line());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void nonObjectLinesAreRowErrors() throws IOException {
+        NdjsonImportRowReader reader = reader("null\n[1,2]\n\"text\"\n42\n" + ROW);
+
+        for (int line = 1; line <= 4; line++) {
+            ImportRow row = reader.next();
+            assertEquals(line, row.line());
+            assertEquals("Expected a JSON object", row.error());
+        }
+        assertNull(reader.next().error());
+    }
+
+    @Test
+    void malformedLineIsARowError() throws IOException {
+        NdjsonImportRowReader reader = reader("{\"userId\":7,\n" + ROW);
+
+        ImportRow broken = reader.next();
+
+        assertEquals(1, broken.line());
+        assertEquals("Malformed JSON", broken.error());
+        assertNull(reader.next().error());
+    }
+
+    @Test
+    void overLongLineIsARowError() throws IOException {
+        String longLine = ROW.replace("Hello", "x".repeat(200));
+        NdjsonImportRowReader reader = new NdjsonImportRowReader(
+                new BufferedReader(new StringReader(longLine + ROW)), JsonMapper.builder().build(), 200);
+
+        ImportRow broken = reader.next();
+        ImportRow next = reader.next();
+
+        assertEquals(1, broken.line());
+        assertEquals("Record is longer than 200 characters", broken.error());
+        assertEquals(2, next.line());
+        assertNull(next.error());
+        assertNull(reader.next());
+    }
+
+    private static NdjsonImportRowReader reader(String content) {
+        return new NdjsonImportRowReader(new BufferedReader(new StringReader(content)), JsonMapper.builder().build());
+    }
+}
@@ -0,0 +1,50 @@
+package com.alerthub.actionservice.repository;
+
+import com.alerthub.actionservice.enums.ActionChangeType;
+import com.alerthub.actionservice.model.ActionChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the SQL Hibernate sends when the change log is written (H2, schema from the Flyway migrations).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("queryplan")
+class ActionChangeRepositoryTest {
+
+    // Far past anything the other tests in this database write
+    private static final long FIRST_SEQUENCE = 1_000_000_000L;
+
+    @Autowired
+    private ActionChangeRepository actionChangeRepository;
+
+    @Test
+    @Transactional
+    void saveAllInsertsNewChangesWithoutSelectingThemFirst() {
+        List<ActionChange> changes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            changes.add(ActionChange.builder()
+                    .sequence(FIRST_SEQUENCE + i)
+                    .actionId(UUID.randomUUID())
+                    .userId(7)
+                    .type(ActionChangeType.CREATED)
+                    .payload("{}")
+                    .build());
+        }
+
+        CapturingStatementInspector.clear();
+        actionChangeRepository.saveAll(changes);
+        actionChangeRepository.flush();
+
+        assertEquals(List.of(), CapturingStatementInspector.selects());
+    }
+}
@@ -0,0 +1,192 @@
+package com.alerthub.actionservice.repository;
+
+import com.alerthub.actionservice.enums.RunOnDay;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeds realistic volumes into H2 (schema from the Flyway migrations),
+ * runs each repository query, and EXPLAINs the SQL Hibernate produced.
+ * A test fails when a query falls back to a full table scan.
+ * <p>
+ * Not covered on purpose: findByDeletedFalse and findByDeletedFalseAndEnabledTrue
+ * return most of the table, so a scan is the right plan for them.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("queryplan")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ActionRepositoryQueryPlanTest {
+
+    private static final int USERS = 2_000;
+    private static final int ACTIONS = 20_000;
+    private static final int CHANGES = 40_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ActionRepository actionRepository;
+
+    @Autowired
+    private ActionChangeRepository actionChangeRepository;
+
+    private final List<UUID> actionIds = new ArrayList<>(ACTIONS);
+
+    @BeforeAll
+    void seed() {
+        RunOnDay[] days = RunOnDay.values();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> actions = new ArrayList<>(ACTIONS);
+        for (int i = 0; i < ACTIONS; i++) {
+            UUID id = UUID.randomUUID();
+            actionIds.add(id);
+            actions.add(new Object[]{
+                    id,
+                    i % USERS,
+                    "action-" + i,
+                    "[[" + i + "]]",
+                    i % 2 == 0 ? "EMAIL" : "SMS",
+                    "user" + i + "@example.com",
+                    "message " + i,
+                    LocalTime.MIDNIGHT.plusMinutes(30L * (i % 48)),
+                    days[i % days.length].name(),
+                    i % 10 != 0,
+                    i % 20 == 0,
+                    now.minusDays(i % 365),
+                    now.minusDays(i % 30),
+                    i % 2 == 0 ? "key-" + i : null
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO actions (id, user_id, name, "condition", action_type, "to", message,
+                                     run_on_time, run_on_day, enabled, deleted, create_date, last_update, import_key)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, actions);
+
+        List<Object[]> changes = new ArrayList<>(CHANGES);
+        for (int i = 0; i < CHANGES; i++) {
+            changes.add(new Object[]{
+                    i + 1L,
+                    actionIds.get(i % ACTIONS),
+                    i % USERS,
+                    "UPDATED",
+                    "{}",
+                    now.minusMinutes(CHANGES - i)
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO action_changes (sequence, action_id, user_id, type, payload, created_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, changes);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @BeforeEach
+    void clearCapturedSql() {
+        CapturingStatementInspector.clear();
+    }
+
+    // ===== ActionRepository =====
+
+    @Test
+    void findActionsToRunUsesScheduleIndex() {
+        actionRepository.findActionsToRun(LocalTime.of(9, 30), RunOnDay.MONDAY);
+        assertUsesIndex("idx_actions_schedule", LocalTime.of(9, 30), RunOnDay.MONDAY.name());
+    }
+
+    @Test
+    void findByUserIdAndDeletedFalseUsesUserIndex() {
+        actionRepository.findByUserIdAndDeletedFalse(42);
+        assertUsesIndex("idx_actions_user", 42);
+    }
+
+    @Test
+    void findByUserIdUsesUserIndex() {
+        actionRepository.findByUserId(42);
+        assertUsesIndex("idx_actions_user", 42);
+    }
+
+    @Test
+    void findByIdAndDeletedFalseUsesPrimaryKey() {
+        UUID id = actionIds.get(7);
+        actionRepository.findByIdAndDeletedFalse(id);
+        assertUsesIndex("primary_key", id);
+    }
+
+    @Test
+    @Transactional
+    void lockNotRunSinceUsesPrimaryKey() {
+        LocalDateTime slot = LocalDateTime.now();
+        UUID first = actionIds.get(7);
+        UUID second = actionIds.get(8);
+        actionRepository.lockNotRunSince(List.of(first, second), slot);
+        assertUsesIndex("primary_key", first, second, slot);
+    }
+
+    @Test
+    void findExistingImportKeysUsesUniqueKey() {
+        actionRepository.findExistingImportKeys(List.of("key-2", "key-4"));
+        assertUsesIndex("uk_actions_import_key", "key-2", "key-4");
+    }
+
+    // ===== ActionChangeRepository =====
+
+    @Test
+    void changeFeedPageUsesPrimaryKey() {
+        actionChangeRepository.findBySequenceGreaterThanOrderBySequenceAsc(CHANGES - 100L, Limit.of(50));
+        assertUsesIndex("primary_key", CHANGES - 100L, 50);
+    }
+
+    @Test
+    void findSupersededBeforeUsesChangeIndexes() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        actionChangeRepository.findSupersededBefore(cutoff, Limit.of(1000));
+        String plan = assertUsesIndex("idx_action_changes_created", cutoff, 1000);
+        assertContains(plan, "idx_action_changes_action");
+    }
+
+    // ===== Helpers =====
+
+    /**
+     * EXPLAINs the last captured SELECT with the given parameters (in SQL order)
+     * and checks that it names the index and contains no table scan.
+     * Trailing parameters that are not given (row limits Hibernate adds) are bound to 1.
+     */
+    private String assertUsesIndex(String index, Object... params) {
+        String sql = CapturingStatementInspector.lastSelect();
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] args = Arrays.copyOf(params, Math.max(placeholders, params.length));
+        Arrays.fill(args, params.length, args.length, 1);
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+        assertFalse(plan.contains(".tableScan"), () -> "Full table scan:\n" + plan);
+        assertContains(plan, index);
+        return plan;
+    }
+
+    private static void assertContains(String plan, String index) {
+        assertTrue(plan.toUpperCase(Locale.ROOT).contains(index.toUpperCase(Locale.ROOT)),
+                () -> "Expected index " + index + " in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,41 @@
+package com.alerthub.actionservice.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate sends on the current thread,
+ * so the query plan tests can EXPLAIN exactly what a repository method runs.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    static List<String> selects() {
+        return STATEMENTS.get().stream()
+                .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+    }
+
+    static String lastSelect() {
+        List<String> statements = STATEMENTS.get();
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                return statements.get(i);
+            }
+        }
+        throw new AssertionError("No SELECT was captured");
+    }
+}
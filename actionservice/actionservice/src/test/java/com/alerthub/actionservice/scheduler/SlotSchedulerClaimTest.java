@@ -0,0 +1,151 @@
+package com.alerthub.actionservice.scheduler;
+
+import com.alerthub.actionservice.client.MetricClient;
+import com.alerthub.actionservice.dto.MetricStatus;
+import com.alerthub.actionservice.enums.ActionType;
+import com.alerthub.actionservice.enums.RunOnDay;
+import com.alerthub.actionservice.model.Action;
+import com.alerthub.actionservice.service.ActionService;
+import com.alerthub.actionservice.template.MessageTemplateRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs slots against the real action service on H2 (schema from the Flyway migrations),
+ * changing actions between the early prepare and the boundary.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class SlotSchedulerClaimTest {
+
+    // Every metric is triggered
+    private static final MetricClient METRICS = (metricIds, windowEnd, changedSince) -> changedSince != null
+            ? List.of()
+            : metricIds.stream().map(id -> new MetricStatus(id, 7, "Open bugs", 1, 24, 5, null)).toList();
+
+    @Autowired
+    private ActionService actionService;
+
+    @Autowired
+    private MessageTemplateRegistry messageTemplateRegistry;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ActionDispatcher actionDispatcher = mock(ActionDispatcher.class);
+
+    private LocalDateTime slot;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.update("DELETE FROM action_changes");
+        jdbcTemplate.update("DELETE FROM actions");
+        slot = SlotScheduler.nextSlot(LocalDateTime.now());
+    }
+
+    @Test
+    void dueActionIsSentAndMarkedRun() {
+        Action action = createDueAction();
+
+        SlotTasks tasks = startInstance();
+        tasks.prepare().run();
+        tasks.fire().run();
+
+        verify(actionDispatcher).dispatch(any(), anyString());
+        assertEquals(Timestamp.valueOf(slot), lastRun(action));
+    }
+
+    @Test
+    void actionDisabledDuringTheLeadWindowIsNotSent() {
+        Action action = createDueAction();
+        SlotTasks tasks = startInstance();
+
+        tasks.prepare().run();
+        actionService.setEnabled(action.getId(), false);
+        tasks.fire().run();
+
+        verify(actionDispatcher, never()).dispatch(any(), anyString());
+        assertNull(lastRun(action));
+    }
+
+    @Test
+    void actionDeletedDuringTheLeadWindowIsNotSent() {
+        Action action = createDueAction();
+        SlotTasks tasks = startInstance();
+
+        tasks.prepare().run();
+        actionService.softDelete(action.getId());
+        tasks.fire().run();
+
+        verify(actionDispatcher, never()).dispatch(any(), anyString());
+        assertNull(lastRun(action));
+    }
+
+    @Test
+    void secondInstanceDoesNotSendAClaimedActionAgain() {
+        createDueAction();
+        SlotTasks first = startInstance();
+        SlotTasks second = startInstance();
+
+        first.prepare().run();
+        second.prepare().run();
+        first.fire().run();
+        second.fire().run();
+
+        verify(actionDispatcher, times(1)).dispatch(any(), anyString());
+    }
+
+    // Starts a scheduler instance and returns the early prepare and the boundary of its first slot
+    private SlotTasks startInstance() {
+        TaskScheduler taskScheduler = mock(TaskScheduler.class);
+        new SlotScheduler(actionService, METRICS, messageTemplateRegistry, actionDispatcher,
+                taskScheduler, jsonMapper).start();
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(2)).schedule(tasks.capture(), any(Instant.class));
+        return new SlotTasks(tasks.getAllValues().get(0), tasks.getAllValues().get(1));
+    }
+
+    private Action createDueAction() {
+        return actionService.create(Action.builder()
+                .userId(7)
+                .name("Nightly")
+                .condition("[[1]]")
+                .actionType(ActionType.EMAIL)
+                .recipient("ops@example.com")
+                .message("{{metricName}} hit {{count}}")
+                .runOnTime(slot.toLocalTime())
+                .runonday(RunOnDay.ALL)
+                .build());
+    }
+
+    private Timestamp lastRun(Action action) {
+        return jdbcTemplate.queryForObject("SELECT last_run FROM actions WHERE id = ?", Timestamp.class, action.getId());
+    }
+
+    private record SlotTasks(Runnable prepare, Runnable fire) {
+    }
+}
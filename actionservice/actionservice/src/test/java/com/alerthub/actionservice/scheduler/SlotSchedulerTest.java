@@ -0,0 +1,141 @@
+package com.alerthub.actionservice.scheduler;
+
+import com.alerthub.actionservice.client.MetricClient;
+import com.alerthub.actionservice.dto.MetricStatus;
+import com.alerthub.actionservice.model.Action;
+import com.alerthub.actionservice.service.ActionService;
+import com.alerthub.actionservice.template.MessageTemplateRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlotSchedulerTest {
+
+    private final ActionService actionService = mock(ActionService.class);
+    private final ActionDispatcher actionDispatcher = mock(ActionDispatcher.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    private final FlakyMetricClient metricClient = new FlakyMetricClient();
+
+    private SlotScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        MessageTemplateRegistry registry = new MessageTemplateRegistry();
+        ReflectionTestUtils.setField(registry, "maxTemplates", 100);
+        scheduler = new SlotScheduler(actionService, metricClient, registry, actionDispatcher,
+                taskScheduler, JsonMapper.builder().build());
+        // Every action passed in is claimed unless a test says otherwise
+        when(actionService.claimRun(any(), any())).thenAnswer(call -> List.copyOf(call.<Collection<UUID>>getArgument(0)));
+    }
+
+    @Test
+    void slotIsDispatchedWhenTheEarlyPrepareFailed() {
+        Action action = action("[[1]]");
+        when(actionService.getActionsToRun(any(), any())).thenReturn(List.of(action));
+        metricClient.failures = 1;
+
+        runSlot();
+
+        verify(actionDispatcher).dispatch(action, "Open bugs hit 5");
+    }
+
+    @Test
+    void slotIsSkippedWhenThePrepareFailsAgainAtTheBoundary() {
+        when(actionService.getActionsToRun(any(), any())).thenReturn(List.of(action("[[1]]")));
+        metricClient.failures = 2;
+
+        runSlot();
+
+        verify(actionDispatcher, never()).dispatch(any(), anyString());
+        verify(actionService, never()).claimRun(any(), any());
+    }
+
+    @Test
+    void brokenConditionsSkipOnlyTheirAction() {
+        Action good = action("[[1]]");
+        when(actionService.getActionsToRun(any(), any())).thenReturn(List.of(
+                action("null"), action("not json"), action("[[]]"), good));
+
+        runSlot();
+
+        verify(actionDispatcher).dispatch(good, "Open bugs hit 5");
+        verify(actionDispatcher, times(1)).dispatch(any(), anyString());
+    }
+
+    @Test
+    void onlyClaimedActionsAreDispatched() {
+        Action ours = action("[[1]]");
+        Action theirs = action("[[2]]");
+        when(actionService.getActionsToRun(any(), any())).thenReturn(List.of(ours, theirs));
+        // Another instance claimed the second action first
+        doReturn(List.of(ours.getId())).when(actionService).claimRun(any(), any());
+
+        runSlot();
+
+        verify(actionDispatcher).dispatch(eq(ours), anyString());
+        verify(actionDispatcher, never()).dispatch(eq(theirs), anyString());
+    }
+
+    // Runs the early prepare, then the boundary, of the first scheduled slot
+    private void runSlot() {
+        scheduler.start();
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(2)).schedule(tasks.capture(), any(Instant.class));
+        tasks.getAllValues().get(0).run();
+        tasks.getAllValues().get(1).run();
+    }
+
+    private static Action action(String condition) {
+        return Action.builder()
+                .id(UUID.randomUUID())
+                .userId(7)
+                .name("Nightly")
+                .condition(condition)
+                .message("{{metricName}} hit {{count}}")
+                .build();
+    }
+
+    /**
+     * Fails the first {@code failures} full fetches; every metric is triggered with a count of 5.
+     * Boundary refreshes report no changes.
+     */
+    private static final class FlakyMetricClient implements MetricClient {
+
+        private int failures;
+
+        @Override
+        public List<MetricStatus> getStatus(Collection<String> metricIds, LocalDateTime windowEnd,
+                                            LocalDateTime changedSince) {
+            if (changedSince != null) {
+                return List.of();
+            }
+            if (failures > 0) {
+                failures--;
+                throw new RestClientException("metricservice unavailable");
+            }
+            return metricIds.stream()
+                    .map(id -> new MetricStatus(id, 7, "Open bugs", 1, 24, 5, null))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.alerthub.actionservice.template;
+
+import com.alerthub.actionservice.exception.InvalidActionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageTemplateTest {
+
+    private static final TemplateValues VALUES = new TemplateValues("Open bugs", 42, 10, 24);
+
+    @Test
+    void rendersEveryPlaceholder() {
+        MessageTemplate template = MessageTemplate.compile(
+                "{{metricName}}: {{count}} events, threshold {{threshold}} in {{window}}h");
+
+        assertTrue(template.hasPlaceholders());
+        assertEquals("Open bugs: 42 events, threshold 10 in 24h", template.render(VALUES));
+    }
+
+    @Test
+    void rendersAdjacentAndRepeatedPlaceholders() {
+        MessageTemplate template = MessageTemplate.compile("{{count}}{{threshold}}{{count}}");
+
+        assertEquals("421042", template.render(VALUES));
+    }
+
+    @Test
+    void placeholderOnlyTemplate() {
+        assertEquals("Open bugs", MessageTemplate.compile("{{metricName}}").render(VALUES));
+    }
+
+    @Test
+    void whitespaceInsideBracesIsIgnored() {
+        MessageTemplate template = MessageTemplate.compile("{{ count }} / {{\tthreshold\t}}");
+
+        assertEquals("42 / 10", template.render(VALUES));
+    }
+
+    @Test
+    void templateWithoutPlaceholdersRendersItsSource() {
+        String source = "Check the dashboard }} now";
+        MessageTemplate template = MessageTemplate.compile(source);
+
+        assertFalse(template.hasPlaceholders());
+        assertSame(source, template.render(VALUES));
+    }
+
+    @Test
+    void emptyTemplateRendersEmpty() {
+        assertEquals("", MessageTemplate.compile("").render(VALUES));
+    }
+
+    @Test
+    void unclosedPlaceholderIsRejected() {
+        InvalidActionException e = assertThrows(InvalidActionException.class,
+                () -> MessageTemplate.compile("Hello {{count} world"));
+
+        assertEquals("Message has an unclosed placeholder at position 6", e.getMessage());
+    }
+
+    @Test
+    void unknownPlaceholderIsRejected() {
+        InvalidActionException e = assertThrows(InvalidActionException.class,
+                () -> MessageTemplate.compile("Hello {{ user }}"));
+
+        assertEquals("Unknown message placeholder {{user}}, allowed: [metricName, count, threshold, window]",
+                e.getMessage());
+    }
+
+    @Test
+    void placeholderKeysAreCaseSensitive() {
+        assertThrows(InvalidActionException.class, () -> MessageTemplate.compile("{{Count}}"));
+    }
+
+    @Test
+    void emptyPlaceholderIsRejected() {
+        assertThrows(InvalidActionException.class, () -> MessageTemplate.compile("{{}}"));
+    }
+}
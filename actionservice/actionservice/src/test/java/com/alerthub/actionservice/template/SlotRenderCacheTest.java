@@ -0,0 +1,75 @@
+package com.alerthub.actionservice.template;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SlotRenderCacheTest {
+
+    private final MessageTemplate template = MessageTemplate.compile("{{metricName}} hit {{count}}");
+
+    @Test
+    void identicalTemplateAndValuesAreRenderedOnce() {
+        SlotRenderCache cache = new SlotRenderCache();
+
+        String first = cache.render(template, new TemplateValues("Open bugs", 42, 10, 24));
+        String second = cache.render(template, new TemplateValues("Open bugs", 42, 10, 24));
+
+        assertEquals("Open bugs hit 42", first);
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void differentValuesAreRenderedSeparately() {
+        SlotRenderCache cache = new SlotRenderCache();
+
+        String bugs = cache.render(template, new TemplateValues("Open bugs", 42, 10, 24));
+        String questions = cache.render(template, new TemplateValues("Questions", 42, 10, 24));
+        String otherWindow = cache.render(template, new TemplateValues("Open bugs", 42, 10, 48));
+
+        assertEquals("Open bugs hit 42", bugs);
+        assertEquals("Questions hit 42", questions);
+        // Same text, but a different key: values are compared as a whole
+        assertNotSame(bugs, otherWindow);
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void differentTemplatesWithTheSameSourceAreNotShared() {
+        SlotRenderCache cache = new SlotRenderCache();
+        TemplateValues values = new TemplateValues("Open bugs", 42, 10, 24);
+
+        // The registry interns templates; outside it the key is per instance
+        cache.render(template, values);
+        cache.render(MessageTemplate.compile(template.getSource()), values);
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void templatesWithoutPlaceholdersAreNotCached() {
+        SlotRenderCache cache = new SlotRenderCache();
+        MessageTemplate plain = MessageTemplate.compile("Check the dashboard");
+
+        assertSame(plain.getSource(), cache.render(plain, new TemplateValues("Open bugs", 42, 10, 24)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void registryInternsTemplatesSoActionsWithTheSameMessageShareRenders() {
+        MessageTemplateRegistry registry = new MessageTemplateRegistry();
+        ReflectionTestUtils.setField(registry, "maxTemplates", 100);
+        SlotRenderCache cache = new SlotRenderCache();
+        TemplateValues values = new TemplateValues("Open bugs", 42, 10, 24);
+
+        String first = cache.render(registry.compile(new String("{{metricName}} hit {{count}}")), values);
+        String second = cache.render(registry.compile(new String("{{metricName}} hit {{count}}")), values);
+
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+    }
+}
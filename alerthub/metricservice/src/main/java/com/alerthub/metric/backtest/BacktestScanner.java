@@ -0,0 +1,122 @@
+package com.alerthub.metric.backtest;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Replays columnar events against metric definitions and records every
+ * threshold crossing. Work is split by user ranges with fork-join.
+ * <p>
+ * A definition fires when the number of its label's events in the trailing
+ * {@code timeFrameHours} window reaches {@code threshold}, and re-arms once
+ * the count has dropped below the threshold again.
+ */
+public final class BacktestScanner {
+
+    // Leaves smaller than this are scanned sequentially
+    private static final int LEAF_EVENTS = 1 << 16;
+
+    private BacktestScanner() {
+    }
+
+    public static Crossings[] scan(EventColumns events, List<ScanDefinition> definitions, ForkJoinPool pool) {
+        if (events.userCount() == 0 || definitions.isEmpty()) {
+            return emptyResult(definitions.size());
+        }
+        ScanDefinition[] defs = definitions.toArray(ScanDefinition[]::new);
+        return pool.invoke(new UserRangeTask(events, defs, 0, events.userCount()));
+    }
+
+    private static Crossings[] emptyResult(int definitions) {
+        Crossings[] result = new Crossings[definitions];
+        for (int i = 0; i < definitions; i++) {
+            result[i] = new Crossings();
+        }
+        return result;
+    }
+
+    private static final class UserRangeTask extends RecursiveTask<Crossings[]> {
+
+        private final EventColumns events;
+        private final ScanDefinition[] defs;
+        private final int fromUser;
+        private final int toUser;
+
+        UserRangeTask(EventColumns events, ScanDefinition[] defs, int fromUser, int toUser) {
+            this.events = events;
+            this.defs = defs;
+            this.fromUser = fromUser;
+            this.toUser = toUser;
+        }
+
+        @Override
+        protected Crossings[] compute() {
+            int eventSpan = events.userEnd(toUser - 1) - events.userStart(fromUser);
+            if (toUser - fromUser == 1 || eventSpan <= LEAF_EVENTS) {
+                return scanRange();
+            }
+            int mid = (fromUser + toUser) >>> 1;
+            UserRangeTask left = new UserRangeTask(events, defs, fromUser, mid);
+            UserRangeTask right = new UserRangeTask(events, defs, mid, toUser);
+            left.fork();
+            Crossings[] rightResult = right.compute();
+            Crossings[] leftResult = left.join();
+            // Keep results ordered by user: left range first
+            for (int d = 0; d < leftResult.length; d++) {
+                leftResult[d].addAll(rightResult[d]);
+            }
+            return leftResult;
+        }
+
+        private Crossings[] scanRange() {
+            Crossings[] result = emptyResult(defs.length);
+            long[] timestamps = events.timestamps();
+            byte[] labels = events.labels();
+            for (int u = fromUser; u < toUser; u++) {
+                int userId = events.userId(u);
+                int start = events.userStart(u);
+                int end = events.userEnd(u);
+                for (int d = 0; d < defs.length; d++) {
+                    ScanDefinition def = defs[d];
+                    if (def.userId() != null && def.userId() != userId) {
+                        continue;
+                    }
+                    scanUser(timestamps, labels, start, end, def, userId, result[d]);
+                }
+            }
+            return result;
+        }
+
+        private static void scanUser(long[] timestamps, byte[] labels, int start, int end,
+                                     ScanDefinition def, int userId, Crossings out) {
+            byte label = def.labelCode();
+            long window = def.windowMillis();
+            int threshold = def.threshold();
+            int tail = start;
+            int count = 0;
+            boolean armed = true;
+            for (int i = start; i < end; i++) {
+                long now = timestamps[i];
+                // Evict events that fell out of the trailing window
+                while (tail < i && timestamps[tail] <= now - window) {
+                    if (labels[tail] == label) {
+                        count--;
+                    }
+                    tail++;
+                }
+                if (count < threshold) {
+                    armed = true;
+                }
+                if (labels[i] != label) {
+                    continue;
+                }
+                count++;
+                if (armed && count >= threshold) {
+                    out.add(userId, now);
+                    armed = false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.alerthub.metric.backtest;
+
+import java.util.Arrays;
+
+/**
+ * Growable (userId, time) pairs for the moments a definition crossed its threshold.
+ */
+public final class Crossings {
+
+    private int[] userIds = new int[8];
+    private long[] times = new long[8];
+    private int size;
+
+    void add(int userId, long time) {
+        if (size == times.length) {
+            userIds = Arrays.copyOf(userIds, size * 2);
+            times = Arrays.copyOf(times, size * 2);
+        }
+        userIds[size] = userId;
+        times[size] = time;
+        size++;
+    }
+
+    void addAll(Crossings other) {
+        if (other.size == 0) {
+            return;
+        }
+        int required = size + other.size;
+        if (required > times.length) {
+            userIds = Arrays.copyOf(userIds, required);
+            times = Arrays.copyOf(times, required);
+        }
+        System.arraycopy(other.userIds, 0, userIds, size, other.size);
+        System.arraycopy(other.times, 0, times, size, other.size);
+        size = required;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int userId(int i) {
+        return userIds[i];
+    }
+
+    public long time(int i) {
+        return times[i];
+    }
+}
@@ -0,0 +1,120 @@
+package com.alerthub.metric.backtest;
+
+import java.util.Arrays;
+
+/**
+ * Columnar, primitive-array snapshot of labelled events.
+ * Events are grouped by user and ordered by time inside each user,
+ * so user {@code u} owns the rows {@code [userStart[u], userStart[u + 1])}.
+ */
+public final class EventColumns {
+
+    private final int[] userIds;
+    private final int[] userStart;
+    private final long[] timestamps;
+    private final byte[] labels;
+
+    private EventColumns(int[] userIds, int[] userStart, long[] timestamps, byte[] labels) {
+        this.userIds = userIds;
+        this.userStart = userStart;
+        this.timestamps = timestamps;
+        this.labels = labels;
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    public int eventCount() {
+        return timestamps.length;
+    }
+
+    public int userId(int user) {
+        return userIds[user];
+    }
+
+    public int userStart(int user) {
+        return userStart[user];
+    }
+
+    public int userEnd(int user) {
+        return userStart[user + 1];
+    }
+
+    long[] timestamps() {
+        return timestamps;
+    }
+
+    byte[] labels() {
+        return labels;
+    }
+
+    public static Builder builder(int expectedEvents) {
+        return new Builder(expectedEvents);
+    }
+
+    /**
+     * Appends rows that are already ordered by (userId, timestamp).
+     */
+    public static final class Builder {
+
+        private int[] userIds = new int[16];
+        private int[] userStart = new int[17];
+        private int users;
+
+        private long[] timestamps;
+        private byte[] labels;
+        private int size;
+
+        private Builder(int expectedEvents) {
+            int capacity = Math.max(expectedEvents, 16);
+            this.timestamps = new long[capacity];
+            this.labels = new byte[capacity];
+        }
+
+        public Builder append(int userId, long timestamp, byte label) {
+            if (users == 0 || userIds[users - 1] != userId) {
+                if (users > 0 && userIds[users - 1] > userId) {
+                    throw new IllegalStateException("Events must be ordered by user id");
+                }
+                startUser(userId);
+            } else if (timestamps[size - 1] > timestamp) {
+                throw new IllegalStateException("Events must be ordered by time within a user");
+            }
+            if (size == timestamps.length) {
+                int capacity = timestamps.length + (timestamps.length >> 1);
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                labels = Arrays.copyOf(labels, capacity);
+            }
+            timestamps[size] = timestamp;
+            labels[size] = label;
+            size++;
+            return this;
+        }
+
+        private void startUser(int userId) {
+            if (users == userIds.length) {
+                userIds = Arrays.copyOf(userIds, users * 2);
+                userStart = Arrays.copyOf(userStart, users * 2 + 1);
+            }
+            userIds[users] = userId;
+            userStart[users] = size;
+            users++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public EventColumns build() {
+            int[] starts = Arrays.copyOf(userStart, users + 1);
+            starts[users] = size;
+            return new EventColumns(
+                    Arrays.copyOf(userIds, users),
+                    starts,
+                    size == timestamps.length ? timestamps : Arrays.copyOf(timestamps, size),
+                    size == labels.length ? labels : Arrays.copyOf(labels, size)
+            );
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.alerthub.metric.backtest;
+
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.exception.InvalidMetricException;
+import com.alerthub.metric.repository.LabeledEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams stored events of a time range straight into {@link EventColumns},
+ * so no entity objects are kept around while loading.
+ * Loading stops as soon as the range holds more than {@code maxEvents} events.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventColumnsLoader {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final LabeledEventRepository labeledEventRepository;
+
+    @Transactional(readOnly = true)
+    public EventColumns load(Timestamp from, Timestamp to, int maxEvents) {
+        EventColumns.Builder builder = EventColumns.builder(Math.min(INITIAL_CAPACITY, maxEvents));
+        try (Stream<Object[]> rows = labeledEventRepository.streamInRange(from, to)) {
+            Iterator<Object[]> it = rows.iterator();
+            while (it.hasNext()) {
+                if (builder.size() == maxEvents) {
+                    throw new InvalidMetricException(
+                            "Backtest range holds more than " + maxEvents + " events, narrow the range");
+                }
+                Object[] row = it.next();
+                builder.append(
+                        (Integer) row[0],
+                        ((Timestamp) row[2]).getTime(),
+                        (byte) ((LabelType) row[1]).ordinal()
+                );
+            }
+        }
+        return builder.build();
+    }
+}
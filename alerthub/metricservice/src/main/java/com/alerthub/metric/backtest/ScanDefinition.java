@@ -0,0 +1,18 @@
+package com.alerthub.metric.backtest;
+
+import com.alerthub.metric.enums.LabelType;
+
+/**
+ * A metric definition reduced to what the scanner needs.
+ * A {@code null} userId applies the definition to every user's events.
+ */
+public record ScanDefinition(Integer userId, LabelType label, int threshold, int timeFrameHours) {
+
+    long windowMillis() {
+        return timeFrameHours * 3_600_000L;
+    }
+
+    byte labelCode() {
+        return (byte) label.ordinal();
+    }
+}
@@ -0,0 +1,136 @@
+package com.alerthub.metric.catalog;
+
+import com.alerthub.metric.model.Metric;
+import com.alerthub.metric.repository.MetricRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory copy of all metric definitions.
+ * <p>
+ * Loaded at startup, then refreshed incrementally from {@code updatedAt}.
+ * Deleted rows are not visible to the incremental refresh: it compares the
+ * row count with the catalog size and reloads fully when rows went missing,
+ * and the catalog is also fully reloaded at a slower interval. Readers get a
+ * snapshot only while it is younger than {@code metrics.catalog.max-staleness-ms}
+ * and its last full reload younger than {@code metrics.catalog.max-reload-age-ms}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricCatalog {
+
+    private final MetricRepository metricRepository;
+
+    // Working copy the snapshots are built from; guarded by this
+    private final Map<UUID, Metric> metrics = new HashMap<>();
+    private Timestamp lastUpdatedAt;
+
+    private volatile MetricCatalogSnapshot snapshot;
+    private volatile long refreshedAtMillis;
+    private volatile long reloadedAtMillis;
+
+    @Value("${metrics.catalog.max-staleness-ms:30000}")
+    private long maxStalenessMs;
+
+    // Bounds what a refresh cannot see, should full reloads keep failing
+    @Value("${metrics.catalog.max-reload-age-ms:1200000}")
+    private long maxReloadAgeMs;
+
+    // Re-read rows updated slightly before the last seen updatedAt,
+    // in case their transactions committed late
+    @Value("${metrics.catalog.refresh-overlap-ms:5000}")
+    private long refreshOverlapMs;
+
+    /**
+     * @return the current snapshot, or null if it is missing or older than the staleness bound
+     */
+    public MetricCatalogSnapshot freshSnapshot() {
+        MetricCatalogSnapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (current == null
+                || now - refreshedAtMillis > maxStalenessMs
+                || now - reloadedAtMillis > maxReloadAgeMs) {
+            return null;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${metrics.catalog.full-reload-interval-ms:600000}",
+            fixedDelayString = "${metrics.catalog.full-reload-interval-ms:600000}"
+    )
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        List<Metric> all = metricRepository.findAll();
+
+        metrics.clear();
+        lastUpdatedAt = null;
+        for (Metric metric : all) {
+            metrics.put(metric.getId(), metric);
+            trackUpdatedAt(metric);
+        }
+        publish(start);
+        reloadedAtMillis = start;
+        log.info("Metric catalog loaded {} metrics in {} ms", all.size(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(
+            initialDelayString = "${metrics.catalog.refresh-interval-ms:5000}",
+            fixedDelayString = "${metrics.catalog.refresh-interval-ms:5000}"
+    )
+    public synchronized void refresh() {
+        if (lastUpdatedAt == null) {
+            reload();
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<Metric> changed = metricRepository.findByUpdatedAtGreaterThanEqual(
+                new Timestamp(lastUpdatedAt.getTime() - refreshOverlapMs)
+        );
+
+        boolean modified = false;
+        for (Metric metric : changed) {
+            Metric previous = metrics.put(metric.getId(), metric);
+            modified |= previous == null || !previous.equals(metric);
+            trackUpdatedAt(metric);
+        }
+        // Every row left is in the catalog now, so fewer rows means some were deleted
+        long rows = metricRepository.count();
+        if (rows < metrics.size()) {
+            log.debug("Metric catalog holds {} metrics but {} rows remain, reloading", metrics.size(), rows);
+            reload();
+            return;
+        }
+        if (modified) {
+            publish(start);
+        } else {
+            // Nothing new, the current snapshot is confirmed up to date
+            refreshedAtMillis = start;
+        }
+    }
+
+    private void trackUpdatedAt(Metric metric) {
+        Timestamp updatedAt = metric.getUpdatedAt();
+        if (updatedAt != null && (lastUpdatedAt == null || updatedAt.after(lastUpdatedAt))) {
+            lastUpdatedAt = updatedAt;
+        }
+    }
+
+    private void publish(long refreshedAt) {
+        snapshot = MetricCatalogSnapshot.of(metrics.values());
+        refreshedAtMillis = refreshedAt;
+    }
+}
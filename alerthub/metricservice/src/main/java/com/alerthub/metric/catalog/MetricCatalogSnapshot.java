@@ -0,0 +1,229 @@
+package com.alerthub.metric.catalog;
+
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.model.Metric;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable, read-optimized view of all metric definitions.
+ * <p>
+ * Lookups by user (and label) binary-search a sorted {@code long[]} of
+ * {@code userId << 32 | label} keys; threshold and time frame queries
+ * binary-search sorted {@code int[]} columns and return the matching slice.
+ * The Metric instances are shared and must be treated as read-only.
+ * Like the JPA queries, a name shared by several metrics fails
+ * {@link #findByName} instead of picking one.
+ */
+public final class MetricCatalogSnapshot {
+
+    private final Map<UUID, Metric> byId;
+    private final Map<String, Metric> byName;
+    // Names held by more than one metric, with their count
+    private final Map<String, Integer> duplicateNames;
+
+    private final long[] userLabelKeys;
+    private final Metric[] byUserLabel;
+
+    private final Metric[][] byLabel;
+
+    private final int[] thresholds;
+    private final Metric[] byThreshold;
+
+    private final int[] timeFrames;
+    private final Metric[] byTimeFrame;
+
+    private MetricCatalogSnapshot(Metric[] metrics) {
+        byId = HashMap.newHashMap(metrics.length);
+        byName = HashMap.newHashMap(metrics.length);
+        Map<String, Integer> duplicates = new HashMap<>();
+        for (Metric metric : metrics) {
+            byId.put(metric.getId(), metric);
+            if (byName.putIfAbsent(metric.getName(), metric) != null) {
+                duplicates.merge(metric.getName(), 2, (count, one) -> count + 1);
+            }
+        }
+        duplicateNames = duplicates;
+
+        byUserLabel = metrics.clone();
+        Arrays.sort(byUserLabel, Comparator.comparingLong(MetricCatalogSnapshot::userLabelKey));
+        userLabelKeys = new long[byUserLabel.length];
+        for (int i = 0; i < byUserLabel.length; i++) {
+            userLabelKeys[i] = userLabelKey(byUserLabel[i]);
+        }
+
+        LabelType[] labels = LabelType.values();
+        List<List<Metric>> perLabel = new ArrayList<>(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            perLabel.add(new ArrayList<>());
+        }
+        for (Metric metric : metrics) {
+            perLabel.get(metric.getLabel().ordinal()).add(metric);
+        }
+        byLabel = new Metric[labels.length][];
+        for (int i = 0; i < labels.length; i++) {
+            byLabel[i] = perLabel.get(i).toArray(Metric[]::new);
+        }
+
+        byThreshold = metrics.clone();
+        Arrays.sort(byThreshold, Comparator.comparingInt(Metric::getThreshold));
+        thresholds = Arrays.stream(byThreshold).mapToInt(Metric::getThreshold).toArray();
+
+        byTimeFrame = metrics.clone();
+        Arrays.sort(byTimeFrame, Comparator.comparingInt(Metric::getTimeFrameHours));
+        timeFrames = Arrays.stream(byTimeFrame).mapToInt(Metric::getTimeFrameHours).toArray();
+    }
+
+    public static MetricCatalogSnapshot of(Collection<Metric> metrics) {
+        return new MetricCatalogSnapshot(metrics.toArray(Metric[]::new));
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public Optional<Metric> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public List<Metric> findAllById(Iterable<UUID> ids) {
+        List<Metric> result = new ArrayList<>();
+        for (UUID id : ids) {
+            Metric metric = byId.get(id);
+            if (metric != null) {
+                result.add(metric);
+            }
+        }
+        return result;
+    }
+
+    public List<Metric> findByUserId(Integer userId) {
+        long base = (long) userId << 32;
+        return slice(byUserLabel,
+                lowerBound(userLabelKeys, base),
+                upperBound(userLabelKeys, base | 0xFFFF_FFFFL));
+    }
+
+    public List<Metric> findByLabel(LabelType label) {
+        return Collections.unmodifiableList(Arrays.asList(byLabel[label.ordinal()]));
+    }
+
+    /**
+     * @throws IncorrectResultSizeDataAccessException if several metrics have the name
+     */
+    public Optional<Metric> findByName(String name) {
+        Integer count = duplicateNames.get(name);
+        if (count != null) {
+            throw new IncorrectResultSizeDataAccessException(
+                    "Query did not return a unique result: " + count + " results were returned", 1, count);
+        }
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    public List<Metric> findByUserIdAndLabel(Integer userId, LabelType label) {
+        long key = userLabelKey(userId, label);
+        return slice(byUserLabel, lowerBound(userLabelKeys, key), upperBound(userLabelKeys, key));
+    }
+
+    public boolean existsByUserIdAndName(Integer userId, String name) {
+        // A user's metrics are a short contiguous run
+        for (Metric metric : findByUserId(userId)) {
+            if (metric.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // threshold >= :threshold
+    public List<Metric> findMetricsWithHighThreshold(Integer threshold) {
+        return slice(byThreshold, lowerBound(thresholds, threshold), thresholds.length);
+    }
+
+    // timeFrameHours BETWEEN :minHours AND :maxHours
+    public List<Metric> findByTimeFrameRange(Integer minHours, Integer maxHours) {
+        return slice(byTimeFrame, lowerBound(timeFrames, minHours), upperBound(timeFrames, maxHours));
+    }
+
+    // ===== Helpers =====
+
+    private static long userLabelKey(Metric metric) {
+        return userLabelKey(metric.getUserId(), metric.getLabel());
+    }
+
+    private static long userLabelKey(int userId, LabelType label) {
+        return (long) userId << 32 | label.ordinal();
+    }
+
+    private static List<Metric> slice(Metric[] sorted, int from, int to) {
+        return from >= to ? List.of() : Collections.unmodifiableList(Arrays.asList(sorted).subList(from, to));
+    }
+
+    // First index whose key is >= key
+    private static int lowerBound(long[] keys, long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First index whose key is > key
+    private static int upperBound(long[] keys, long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(int[] keys, int key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(int[] keys, int key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
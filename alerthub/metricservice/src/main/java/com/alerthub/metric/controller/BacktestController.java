@@ -0,0 +1,24 @@
+package com.alerthub.metric.controller;
+
+import com.alerthub.metric.dto.BacktestRequest;
+import com.alerthub.metric.dto.BacktestResponse;
+import com.alerthub.metric.service.BacktestService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/metrics/backtest")
+@RequiredArgsConstructor
+public class BacktestController {
+
+    private final BacktestService backtestService;
+
+    // Simulate the alerts candidate metric definitions would have produced
+    @PostMapping
+    public BacktestResponse backtest(
+            @Valid @RequestBody BacktestRequest request
+    ) {
+        return backtestService.backtest(request);
+    }
+}
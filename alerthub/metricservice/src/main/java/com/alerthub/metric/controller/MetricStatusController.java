@@ -0,0 +1,26 @@
+package com.alerthub.metric.controller;
+
+import com.alerthub.metric.dto.MetricStatusRequest;
+import com.alerthub.metric.dto.MetricStatusResponse;
+import com.alerthub.metric.service.MetricStatusService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/metrics/status")
+@RequiredArgsConstructor
+public class MetricStatusController {
+
+    private final MetricStatusService metricStatusService;
+
+    // Current counts of the given metrics, used by the action scheduler
+    @PostMapping
+    public List<MetricStatusResponse> getStatus(
+            @Valid @RequestBody MetricStatusRequest request
+    ) {
+        return metricStatusService.getStatus(request);
+    }
+}
@@ -0,0 +1,57 @@
+package com.alerthub.metric.dto;
+
+import com.alerthub.metric.enums.LabelType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for replaying stored events against candidate metric definitions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestRequest {
+
+    @NotNull(message = "From is required")
+    private LocalDateTime from;
+
+    @NotNull(message = "To is required")
+    private LocalDateTime to;
+
+    @NotEmpty(message = "At least one definition is required")
+    private List<@Valid Definition> definitions;
+
+    /**
+     * Candidate metric definition. Without a userId it is evaluated for every user.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Definition {
+
+        @NotBlank(message = "Name is required")
+        private String name;
+
+        private Integer userId;
+
+        @NotNull(message = "Label is required")
+        private LabelType label;
+
+        @NotNull(message = "Threshold is required")
+        @Min(value = 1, message = "Threshold must be at least 1")
+        private Integer threshold;
+
+        @NotNull(message = "Time frame is required")
+        @Min(value = 1, message = "Time frame must be at least 1 hour")
+        private Integer timeFrameHours;
+    }
+}
@@ -0,0 +1,66 @@
+package com.alerthub.metric.dto;
+
+import com.alerthub.metric.enums.LabelType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Alerts each candidate definition would have produced over the requested range.
+ */
+@Data
+@Builder
+public class BacktestResponse {
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    /**
+     * Number of stored events replayed
+     */
+    private int eventsScanned;
+
+    private List<DefinitionResult> results;
+
+    @Data
+    @Builder
+    public static class DefinitionResult {
+
+        private String name;
+
+        private Integer userId;
+
+        private LabelType label;
+
+        private Integer threshold;
+
+        private Integer timeFrameHours;
+
+        /**
+         * Number of alerts the definition would have raised
+         */
+        private int alertCount;
+
+        /**
+         * The first crossings by user, then time; at most metrics.backtest.max-crossings of them
+         */
+        private List<Crossing> crossings;
+
+        /**
+         * True when alertCount is larger than the crossings returned
+         */
+        private boolean crossingsTruncated;
+    }
+
+    @Data
+    @Builder
+    public static class Crossing {
+
+        private Integer userId;
+
+        private LocalDateTime time;
+    }
+}
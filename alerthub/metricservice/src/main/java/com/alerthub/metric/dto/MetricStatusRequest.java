@@ -0,0 +1,37 @@
+package com.alerthub.metric.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for asking the current count of a set of metrics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricStatusRequest {
+
+    /**
+     * Metric ids; ids that are not UUIDs or unknown are ignored
+     */
+    @NotEmpty(message = "At least one metric id is required")
+    private List<String> metricIds;
+
+    /**
+     * End of the counting window, usually the upcoming schedule slot
+     */
+    @NotNull(message = "Window end is required")
+    private LocalDateTime windowEnd;
+
+    /**
+     * When set, only metrics whose definition changed or that had events
+     * stored since this time (whatever their event time) are returned
+     */
+    private LocalDateTime changedSince;
+}
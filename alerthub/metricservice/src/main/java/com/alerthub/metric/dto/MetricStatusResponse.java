@@ -0,0 +1,35 @@
+package com.alerthub.metric.dto;
+
+import com.alerthub.metric.enums.LabelType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Metric definition together with its event count in the requested window.
+ */
+@Data
+@Builder
+public class MetricStatusResponse {
+
+    private UUID id;
+
+    private Integer userId;
+
+    private String name;
+
+    private LabelType label;
+
+    private Integer threshold;
+
+    private Integer timeFrameHours;
+
+    /**
+     * Events of the metric's label in (windowEnd - timeFrameHours, windowEnd]
+     */
+    private long count;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.alerthub.metric.enums;
+
+/**
+ * Labels attached to platform events (GitHub / Jira / ClickUp).
+ * Ordinals are stored as a single byte by the backtest scanner,
+ * so keep the number of values below 128.
+ */
+public enum LabelType {
+    BUG,
+    DOCUMENTATION,
+    DUPLICATE,
+    ENHANCEMENT,
+    GOOD_FIRST_ISSUE,
+    HELP_WANTED,
+    INVALID,
+    QUESTION,
+    WONTFIX
+}
@@ -0,0 +1,11 @@
+package com.alerthub.metric.exception;
+
+/**
+ * Thrown when the configured number of backtests is already running.
+ */
+public class BacktestBusyException extends RuntimeException {
+
+    public BacktestBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,100 @@
+package com.alerthub.metric.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Handles all exceptions across the application
+ * and converts them to proper HTTP responses.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // =========================
+    // DTO validation errors
+    // =========================
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, Object> handleValidationErrors(
+            MethodArgumentNotValidException ex
+    ) {
+        Map<String, String> errors = new HashMap<>();
+
+        ex.getBindingResult()
+                .getFieldErrors()
+                .forEach(error ->
+                        errors.put(error.getField(), error.getDefaultMessage())
+                );
+
+        return errorResponse(
+                HttpStatus.BAD_REQUEST,
+                "Validation failed",
+                errors
+        );
+    }
+
+    // =========================
+    // Business rule errors
+    // =========================
+
+    @ExceptionHandler(InvalidMetricException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, Object> handleInvalidMetric(
+            InvalidMetricException ex
+    ) {
+        return errorResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage(),
+                null
+        );
+    }
+
+    @ExceptionHandler(BacktestBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, Object> handleBacktestBusy(
+            BacktestBusyException ex
+    ) {
+        return errorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage(),
+                null
+        );
+    }
+
+    // =========================
+    // Fallback (500)
+    // =========================
+
+    @ExceptionHandler(Exception.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public Map<String, Object> handleGeneric(Exception ex) {
+        return errorResponse(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "Internal server error",
+                null
+        );
+    }
+
+    // =========================
+    // Helper
+    // =========================
+
+    private Map<String, Object> errorResponse(
+            HttpStatus status,
+            String message,
+            Object details
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", status.value());
+        response.put("error", message);
+        response.put("details", details);
+        return response;
+    }
+}
@@ -0,0 +1,11 @@
+package com.alerthub.metric.exception;
+
+/**
+ * Thrown when a metric or metric request violates business rules.
+ */
+public class InvalidMetricException extends RuntimeException {
+
+    public InvalidMetricException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.alerthub.metric.model;
+
+import com.alerthub.metric.enums.LabelType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * A single labelled event collected from a platform for a user.
+ * Metrics count these events per label inside their time frame.
+ */
+@Entity
+@Table(name = "labeled_event")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LabeledEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private LabelType label;
+
+    @Column(name = "event_time", nullable = false)
+    private Timestamp eventTime;
+
+    /**
+     * When the row was stored; set by the database. Later than
+     * {@code eventTime} for events collected late.
+     */
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private Timestamp createdAt;
+}
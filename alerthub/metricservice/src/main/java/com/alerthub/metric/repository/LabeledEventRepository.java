@@ -0,0 +1,60 @@
+package com.alerthub.metric.repository;
+
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.model.LabeledEvent;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface LabeledEventRepository extends JpaRepository<LabeledEvent, Long> {
+
+    // Stream (userId, label, eventTime) rows of a time range, grouped by user and ordered by time.
+    // Must be consumed inside a transaction. The fetch size makes MySQL (useCursorFetch=true)
+    // hand rows over in chunks instead of buffering the whole result before the first one.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    @Query("""
+        SELECT e.userId, e.label, e.eventTime FROM LabeledEvent e
+        WHERE e.eventTime >= :from
+          AND e.eventTime < :to
+        ORDER BY e.userId, e.eventTime
+    """)
+    Stream<Object[]> streamInRange(
+            @Param("from") Timestamp from,
+            @Param("to") Timestamp to
+    );
+
+    // Event counts in (from, to] per (userId, label), over every combination of the given users and labels
+    @Query("""
+        SELECT e.userId, e.label, COUNT(e) FROM LabeledEvent e
+        WHERE e.userId IN :userIds
+          AND e.label IN :labels
+          AND e.eventTime > :from
+          AND e.eventTime <= :to
+        GROUP BY e.userId, e.label
+    """)
+    List<Object[]> countInWindow(
+            @Param("userIds") Collection<Integer> userIds,
+            @Param("labels") Collection<LabelType> labels,
+            @Param("from") Timestamp from,
+            @Param("to") Timestamp to
+    );
+
+    // (userId, label) pairs with events stored at or after a time, whatever their event time
+    @Query("""
+        SELECT e.userId, e.label FROM LabeledEvent e
+        WHERE e.createdAt >= :since
+        GROUP BY e.userId, e.label
+    """)
+    List<Object[]> findChangedSince(@Param("since") Timestamp since);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +34,9 @@ public interface MetricRepository extends JpaRepository<Metric, UUID> {
     @Query("SELECT m FROM Metric m WHERE m.threshold >= :threshold")
     List<Metric> findMetricsWithHighThreshold(@Param("threshold") Integer threshold);
 
+    // Metrics created or changed since a time, used by the in-memory catalog refresh
+    List<Metric> findByUpdatedAtGreaterThanEqual(Timestamp since);
+
     // Find metrics within specific time frame range
     @Query("SELECT m FROM Metric m WHERE m.timeFrameHours BETWEEN :minHours AND :maxHours")
     List<Metric> findByTimeFrameRange(
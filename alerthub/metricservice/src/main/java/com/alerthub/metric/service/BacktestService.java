@@ -0,0 +1,10 @@
+package com.alerthub.metric.service;
+
+import com.alerthub.metric.dto.BacktestRequest;
+import com.alerthub.metric.dto.BacktestResponse;
+
+public interface BacktestService {
+
+    // Replay stored events of [from, to) against candidate definitions
+    BacktestResponse backtest(BacktestRequest request);
+}
@@ -0,0 +1,134 @@
+package com.alerthub.metric.service;
+
+import com.alerthub.metric.backtest.BacktestScanner;
+import com.alerthub.metric.backtest.Crossings;
+import com.alerthub.metric.backtest.EventColumns;
+import com.alerthub.metric.backtest.EventColumnsLoader;
+import com.alerthub.metric.backtest.ScanDefinition;
+import com.alerthub.metric.dto.BacktestRequest;
+import com.alerthub.metric.dto.BacktestResponse;
+import com.alerthub.metric.exception.BacktestBusyException;
+import com.alerthub.metric.exception.InvalidMetricException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Every backtest holds its events in memory, so only metrics.backtest.max-concurrent
+ * run at once; further requests are turned away rather than queued.
+ */
+@Service
+public class BacktestServiceImpl implements BacktestService {
+
+    private final EventColumnsLoader eventColumnsLoader;
+
+    private final Semaphore running;
+
+    @Value("${metrics.backtest.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Value("${metrics.backtest.max-events:100000000}")
+    private int maxEvents;
+
+    @Value("${metrics.backtest.max-crossings:10000}")
+    private int maxCrossings;
+
+    public BacktestServiceImpl(
+            EventColumnsLoader eventColumnsLoader,
+            @Value("${metrics.backtest.max-concurrent:2}") int maxConcurrent
+    ) {
+        this.eventColumnsLoader = eventColumnsLoader;
+        this.running = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public BacktestResponse backtest(BacktestRequest request) {
+        if (!request.getFrom().isBefore(request.getTo())) {
+            throw new InvalidMetricException("Backtest 'from' must be before 'to'");
+        }
+        if (!running.tryAcquire()) {
+            throw new BacktestBusyException("Too many backtests are running, try again later");
+        }
+        try {
+            return run(request);
+        } finally {
+            running.release();
+        }
+    }
+
+    private BacktestResponse run(BacktestRequest request) {
+
+        // Load a little history before 'from' so windows are already filled at the start
+        int maxHours = request.getDefinitions().stream()
+                .mapToInt(BacktestRequest.Definition::getTimeFrameHours)
+                .max()
+                .orElse(0);
+        LocalDateTime loadFrom = request.getFrom().minusHours(maxHours);
+        if (Duration.between(loadFrom, request.getTo()).compareTo(Duration.ofDays(maxRangeDays)) > 0) {
+            throw new InvalidMetricException(
+                    "Backtest range including the longest time frame must not exceed " + maxRangeDays + " days");
+        }
+        EventColumns events = eventColumnsLoader.load(
+                Timestamp.valueOf(loadFrom),
+                Timestamp.valueOf(request.getTo()),
+                maxEvents
+        );
+
+        List<ScanDefinition> definitions = request.getDefinitions().stream()
+                .map(d -> new ScanDefinition(d.getUserId(), d.getLabel(), d.getThreshold(), d.getTimeFrameHours()))
+                .toList();
+        Crossings[] crossings = BacktestScanner.scan(events, definitions, ForkJoinPool.commonPool());
+
+        long fromMillis = Timestamp.valueOf(request.getFrom()).getTime();
+        List<BacktestResponse.DefinitionResult> results = new ArrayList<>(definitions.size());
+        for (int d = 0; d < definitions.size(); d++) {
+            results.add(toResult(request.getDefinitions().get(d), crossings[d], fromMillis));
+        }
+
+        return BacktestResponse.builder()
+                .from(request.getFrom())
+                .to(request.getTo())
+                .eventsScanned(events.eventCount())
+                .results(results)
+                .build();
+    }
+
+    private BacktestResponse.DefinitionResult toResult(
+            BacktestRequest.Definition definition,
+            Crossings crossings,
+            long fromMillis
+    ) {
+        List<BacktestResponse.Crossing> list = new ArrayList<>(Math.min(crossings.size(), maxCrossings));
+        int alertCount = 0;
+        for (int i = 0; i < crossings.size(); i++) {
+            // Crossings inside the warm-up history are not part of the requested range
+            if (crossings.time(i) < fromMillis) {
+                continue;
+            }
+            // Every crossing is counted, only the first ones are returned
+            if (alertCount++ < maxCrossings) {
+                list.add(BacktestResponse.Crossing.builder()
+                        .userId(crossings.userId(i))
+                        .time(new Timestamp(crossings.time(i)).toLocalDateTime())
+                        .build());
+            }
+        }
+        return BacktestResponse.DefinitionResult.builder()
+                .name(definition.getName())
+                .userId(definition.getUserId())
+                .label(definition.getLabel())
+                .threshold(definition.getThreshold())
+                .timeFrameHours(definition.getTimeFrameHours())
+                .alertCount(alertCount)
+                .crossings(list)
+                .crossingsTruncated(alertCount > list.size())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.alerthub.metric.service;
+
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.model.Metric;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read side of MetricRepository, served from the in-memory catalog
+ * while it is fresh. Returned metrics must not be modified.
+ */
+public interface MetricQueryService {
+
+    List<Metric> findAllById(Iterable<UUID> ids);
+
+    List<Metric> findByUserId(Integer userId);
+
+    List<Metric> findByLabel(LabelType label);
+
+    Optional<Metric> findByName(String name);
+
+    List<Metric> findByUserIdAndLabel(Integer userId, LabelType label);
+
+    boolean existsByUserIdAndName(Integer userId, String name);
+
+    List<Metric> findMetricsWithHighThreshold(Integer threshold);
+
+    List<Metric> findByTimeFrameRange(Integer minHours, Integer maxHours);
+}
@@ -0,0 +1,81 @@
+package com.alerthub.metric.service;
+
+import com.alerthub.metric.catalog.MetricCatalog;
+import com.alerthub.metric.catalog.MetricCatalogSnapshot;
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.model.Metric;
+import com.alerthub.metric.repository.MetricRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Uses the catalog snapshot when it is within the staleness bound,
+ * otherwise falls back to the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricQueryServiceImpl implements MetricQueryService {
+
+    private final MetricCatalog metricCatalog;
+    private final MetricRepository metricRepository;
+
+    @Override
+    public List<Metric> findAllById(Iterable<UUID> ids) {
+        MetricCatalogSnapshot catalog = metricCatalog.freshSnapshot();
+        return catalog != null ? catalog.findAllById(ids) : metricRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Metric> findByUserId(Integer userId) {
+        MetricCatalogSnapshot catalog = metricCatalog.freshSnapshot();
+        return catalog != null ? catalog.findByUserId(userId) : metricRepository.findByUserId(userId);
+    }
+
+    @Override
+    public List<Metric> findByLabel(LabelType label) {
+        MetricCatalogSnapshot catalog = metricCatalog.freshSnapshot();
+        return catalog != null ? catalog.findByLabel(label) : metricRepository.findByLabel(label);
+    }
+
+    @Override
+    public Optional<Metric> findByName(String name) {
+        MetricCatalogSnapshot catalog = metricCatalog.freshSnapshot();
+        return catalog != null ? catalog.findByName(name) : metricRepository.findByName(name);
+    }
+
+    @Override
+    public List<Metric> findByUserIdAndLabel(Integer userId, LabelType label) {
+        MetricCatalogSnapshot catalog = metricCatalog.freshSnapshot();
+        return catalog != null
+                ? catalog.findByUserIdAndLabel(userId, label)
+                : metricRepository.findByUserIdAndLabel(userId, label);
+    }
+
+    @Override
+    public boolean existsByUserIdAndName(Integer userId, String name) {
+        MetricCatalogSnapshot catalog = metricCatalog.freshSnapshot();
+        return catalog != null
+                ? catalog.existsByUserIdAndName(userId, name)
+                : metricRepository.existsByUserIdAndName(userId, name);
+    }
+
+    @Override
+    public List<Metric> findMetricsWithHighThreshold(Integer threshold) {
+        MetricCatalogSnapshot catalog = metricCatalog.freshSnapshot();
+        return catalog != null
+                ? catalog.findMetricsWithHighThreshold(threshold)
+                : metricRepository.findMetricsWithHighThreshold(threshold);
+    }
+
+    @Override
+    public List<Metric> findByTimeFrameRange(Integer minHours, Integer maxHours) {
+        MetricCatalogSnapshot catalog = metricCatalog.freshSnapshot();
+        return catalog != null
+                ? catalog.findByTimeFrameRange(minHours, maxHours)
+                : metricRepository.findByTimeFrameRange(minHours, maxHours);
+    }
+}
@@ -0,0 +1,12 @@
+package com.alerthub.metric.service;
+
+import com.alerthub.metric.dto.MetricStatusRequest;
+import com.alerthub.metric.dto.MetricStatusResponse;
+
+import java.util.List;
+
+public interface MetricStatusService {
+
+    // Current definitions and window counts of the requested metrics
+    List<MetricStatusResponse> getStatus(MetricStatusRequest request);
+}
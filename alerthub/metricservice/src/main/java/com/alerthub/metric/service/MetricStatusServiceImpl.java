@@ -0,0 +1,116 @@
+package com.alerthub.metric.service;
+
+import com.alerthub.metric.dto.MetricStatusRequest;
+import com.alerthub.metric.dto.MetricStatusResponse;
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.model.Metric;
+import com.alerthub.metric.repository.LabeledEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class MetricStatusServiceImpl implements MetricStatusService {
+
+    private final MetricQueryService metricQueryService;
+    private final LabeledEventRepository labeledEventRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MetricStatusResponse> getStatus(MetricStatusRequest request) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (String id : request.getMetricIds()) {
+            try {
+                ids.add(UUID.fromString(id));
+            } catch (IllegalArgumentException ignored) {
+                // Not a metric id, nothing to report
+            }
+        }
+
+        List<Metric> metrics = metricQueryService.findAllById(ids);
+        if (request.getChangedSince() != null) {
+            metrics = changedSince(metrics, Timestamp.valueOf(request.getChangedSince()));
+        }
+        Map<Integer, Map<UserLabel, Long>> counts = countInWindows(metrics, request.getWindowEnd());
+
+        List<MetricStatusResponse> statuses = new ArrayList<>(metrics.size());
+        for (Metric metric : metrics) {
+            statuses.add(MetricStatusResponse.builder()
+                    .id(metric.getId())
+                    .userId(metric.getUserId())
+                    .name(metric.getName())
+                    .label(metric.getLabel())
+                    .threshold(metric.getThreshold())
+                    .timeFrameHours(metric.getTimeFrameHours())
+                    .count(counts.get(metric.getTimeFrameHours()).getOrDefault(UserLabel.of(metric), 0L))
+                    .updatedAt(metric.getUpdatedAt() == null ? null : metric.getUpdatedAt().toLocalDateTime())
+                    .build());
+        }
+        return statuses;
+    }
+
+    // Metrics edited since the time, or whose (user, label) had events stored since then: one query
+    private List<Metric> changedSince(List<Metric> metrics, Timestamp since) {
+        if (metrics.isEmpty()) {
+            return metrics;
+        }
+        Set<UserLabel> changed = new HashSet<>();
+        for (Object[] row : labeledEventRepository.findChangedSince(since)) {
+            changed.add(new UserLabel((Integer) row[0], (LabelType) row[1]));
+        }
+        List<Metric> result = new ArrayList<>();
+        for (Metric metric : metrics) {
+            boolean edited = metric.getUpdatedAt() != null && !metric.getUpdatedAt().before(since);
+            if (edited || changed.contains(UserLabel.of(metric))) {
+                result.add(metric);
+            }
+        }
+        return result;
+    }
+
+    // Window counts by time frame, then (user, label): one grouped query per distinct time frame
+    private Map<Integer, Map<UserLabel, Long>> countInWindows(List<Metric> metrics, LocalDateTime windowEnd) {
+        Map<Integer, List<Metric>> byTimeFrame = new HashMap<>();
+        for (Metric metric : metrics) {
+            byTimeFrame.computeIfAbsent(metric.getTimeFrameHours(), hours -> new ArrayList<>()).add(metric);
+        }
+
+        Map<Integer, Map<UserLabel, Long>> counts = new HashMap<>();
+        Timestamp to = Timestamp.valueOf(windowEnd);
+        byTimeFrame.forEach((hours, group) -> {
+            Set<Integer> userIds = new HashSet<>();
+            Set<LabelType> labels = EnumSet.noneOf(LabelType.class);
+            for (Metric metric : group) {
+                userIds.add(metric.getUserId());
+                labels.add(metric.getLabel());
+            }
+            Timestamp from = Timestamp.valueOf(windowEnd.minusHours(hours));
+            Map<UserLabel, Long> groupCounts = new HashMap<>();
+            for (Object[] row : labeledEventRepository.countInWindow(userIds, labels, from, to)) {
+                groupCounts.put(new UserLabel((Integer) row[0], (LabelType) row[1]), (Long) row[2]);
+            }
+            counts.put(hours, groupCounts);
+        });
+        return counts;
+    }
+
+    private record UserLabel(Integer userId, LabelType label) {
+
+        static UserLabel of(Metric metric) {
+            return new UserLabel(metric.getUserId(), metric.getLabel());
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.metricservice;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = "com.alerthub.metric")
+@AutoConfigurationPackage(basePackages = "com.alerthub.metric")
+@EnableScheduling
 public class MetricserviceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,24 @@
+-- Indexes for MetricRepository / LabeledEventRepository queries.
+-- MetricRepositoryQueryPlanTest fails if one of them stops being used.
+
+-- findByUserIdAndLabel, findByUserId
+CREATE INDEX idx_metric_user_label ON metric (user_id, label);
+
+-- existsByUserIdAndName: covering, answered from the index alone
+CREATE INDEX idx_metric_user_name ON metric (user_id, name);
+
+-- findByName
+CREATE INDEX idx_metric_name ON metric (name);
+
+-- findMetricsWithHighThreshold: range scan on threshold
+CREATE INDEX idx_metric_threshold ON metric (threshold);
+
+-- findByTimeFrameRange: range scan on time_frame_hours
+CREATE INDEX idx_metric_time_frame ON metric (time_frame_hours);
+
+-- countInWindow, existsByUserIdAndLabelAndEventTimeGreaterThanEqual:
+-- covering, the count never touches the table rows
+CREATE INDEX idx_labeled_event_user_label_time ON labeled_event (user_id, label, event_time);
+
+-- streamInRange: covering range scan on event_time returning user_id and label
+CREATE INDEX idx_labeled_event_time ON labeled_event (event_time, user_id, label);
@@ -0,0 +1,2 @@
+-- findByUpdatedAtGreaterThanEqual: incremental refresh of the in-memory metric catalog
+CREATE INDEX idx_metric_updated_at ON metric (updated_at);
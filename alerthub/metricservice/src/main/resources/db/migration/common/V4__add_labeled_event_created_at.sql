@@ -0,0 +1,7 @@
+-- When an event row was stored, as opposed to event_time, when it happened on the platform.
+-- An event can arrive late: stored now with an older event_time that still falls in a window.
+-- Existing rows get the migration time, so the first change check after it reports them once.
+ALTER TABLE labeled_event ADD COLUMN created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- findChangedSince: covering range scan on created_at returning user_id and label
+CREATE INDEX idx_labeled_event_created ON labeled_event (created_at, user_id, label);
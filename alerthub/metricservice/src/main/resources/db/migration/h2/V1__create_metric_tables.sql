@@ -0,0 +1,22 @@
+-- H2 counterpart of mysql/V1, used by the query plan tests.
+-- Keep both files in sync; indexes live in common/.
+
+CREATE TABLE metric (
+    id                UUID         NOT NULL,
+    user_id           INT          NOT NULL,
+    name              VARCHAR(100) NOT NULL,
+    label             VARCHAR(50)  NOT NULL,
+    threshold         INT          NOT NULL,
+    time_frame_hours  INT          NOT NULL,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    CONSTRAINT pk_metric PRIMARY KEY (id)
+);
+
+CREATE TABLE labeled_event (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id     INT          NOT NULL,
+    label       VARCHAR(50)  NOT NULL,
+    event_time  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_labeled_event PRIMARY KEY (id)
+);
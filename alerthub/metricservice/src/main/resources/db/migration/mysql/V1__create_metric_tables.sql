@@ -0,0 +1,21 @@
+-- Baseline schema for Metric and LabeledEvent.
+
+CREATE TABLE metric (
+    id                BINARY(16)   NOT NULL,
+    user_id           INT          NOT NULL,
+    name              VARCHAR(100) NOT NULL,
+    label             VARCHAR(50)  NOT NULL,
+    threshold         INT          NOT NULL,
+    time_frame_hours  INT          NOT NULL,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    CONSTRAINT pk_metric PRIMARY KEY (id)
+);
+
+CREATE TABLE labeled_event (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id     INT         NOT NULL,
+    label       VARCHAR(50) NOT NULL,
+    event_time  DATETIME(6) NOT NULL,
+    CONSTRAINT pk_labeled_event PRIMARY KEY (id)
+);
@@ -0,0 +1,72 @@
+package com.alerthub.metric.backtest;
+
+import com.alerthub.metric.enums.LabelType;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Manual benchmark for scanning synthetic events with {@link BacktestScanner}.
+ * Not picked up by surefire; run it with a large heap, for example:
+ * <pre>
+ * java -Xmx4g -cp target/classes:target/test-classes \
+ *      com.alerthub.metric.backtest.BacktestScannerBenchmark
+ * </pre>
+ * Tune with {@code -Dbench.events}, {@code -Dbench.users} and {@code -Dbench.rounds}.
+ */
+public final class BacktestScannerBenchmark {
+
+    private static final long ONE_HOUR = 3_600_000L;
+
+    public static void main(String[] args) {
+        int events = Integer.getInteger("bench.events", 100_000_000);
+        int users = Integer.getInteger("bench.users", 10_000);
+        int rounds = Integer.getInteger("bench.rounds", 5);
+
+        EventColumns columns = generate(events, users);
+        List<ScanDefinition> definitions = List.of(
+                new ScanDefinition(null, LabelType.BUG, 5, 24),
+                new ScanDefinition(null, LabelType.ENHANCEMENT, 2, 6),
+                new ScanDefinition(null, LabelType.QUESTION, 10, 72)
+        );
+        System.out.printf("events=%,d users=%,d definitions=%d parallelism=%d%n",
+                columns.eventCount(), columns.userCount(), definitions.size(),
+                ForkJoinPool.commonPool().getParallelism());
+
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            Crossings[] result = BacktestScanner.scan(columns, definitions, ForkJoinPool.commonPool());
+            long elapsed = System.nanoTime() - start;
+
+            long alerts = 0;
+            for (Crossings crossings : result) {
+                alerts += crossings.size();
+            }
+            System.out.printf("round %d: %,d ms, %.1f M events/s, %,d alerts%n",
+                    round, elapsed / 1_000_000,
+                    columns.eventCount() / (elapsed / 1e9) / 1e6, alerts);
+        }
+    }
+
+    // One year of events per user, spread evenly with random gaps and labels
+    private static EventColumns generate(int events, int users) {
+        SplittableRandom random = new SplittableRandom(42);
+        int labels = LabelType.values().length;
+        int perUser = Math.max(1, events / users);
+        long meanGap = Math.max(1, 365 * 24 * ONE_HOUR / perUser);
+
+        EventColumns.Builder builder = EventColumns.builder(events);
+        int written = 0;
+        for (int user = 0; user < users && written < events; user++) {
+            long time = 0;
+            int count = Math.min(perUser, events - written);
+            for (int i = 0; i < count; i++) {
+                time += random.nextLong(2 * meanGap);
+                builder.append(user, time, (byte) random.nextInt(labels));
+            }
+            written += count;
+        }
+        return builder.build();
+    }
+}
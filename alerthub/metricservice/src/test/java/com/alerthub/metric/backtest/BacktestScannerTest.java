@@ -0,0 +1,145 @@
+package com.alerthub.metric.backtest;
+
+import com.alerthub.metric.enums.LabelType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BacktestScannerTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void noEventsGivesEmptyCrossingsPerDefinition() {
+        EventColumns events = EventColumns.builder(0).build();
+
+        Crossings[] result = BacktestScanner.scan(events, List.of(
+                new ScanDefinition(null, LabelType.BUG, 1, 1),
+                new ScanDefinition(null, LabelType.QUESTION, 1, 1)
+        ), pool);
+
+        assertEquals(2, result.length);
+        assertEquals(0, result[0].size());
+        assertEquals(0, result[1].size());
+    }
+
+    @Test
+    void eventExactlyOneWindowOldIsEvicted() {
+        EventColumns events = EventColumns.builder(4)
+                .append(1, 0, bug())
+                .append(1, 30 * MINUTE, bug())
+                // The event at 0 leaves the window here, so the count stays at 2
+                .append(1, 60 * MINUTE, bug())
+                .append(1, 70 * MINUTE, bug())
+                .build();
+
+        Crossings[] result = BacktestScanner.scan(events,
+                List.of(new ScanDefinition(null, LabelType.BUG, 3, 1)), pool);
+
+        assertCrossings(result[0], new int[]{1}, new long[]{70 * MINUTE});
+    }
+
+    @Test
+    void firesOnceUntilCountDropsBelowThreshold() {
+        EventColumns events = EventColumns.builder(6)
+                .append(1, 0, bug())
+                .append(1, 10 * MINUTE, bug())
+                // Still at or above the threshold: no second crossing
+                .append(1, 20 * MINUTE, bug())
+                // Other labels do not count, but still move the window and re-arm
+                .append(1, 3 * HOUR, label(LabelType.ENHANCEMENT))
+                .append(1, 3 * HOUR + 5 * MINUTE, bug())
+                .append(1, 3 * HOUR + 10 * MINUTE, bug())
+                .build();
+
+        Crossings[] result = BacktestScanner.scan(events,
+                List.of(new ScanDefinition(null, LabelType.BUG, 2, 1)), pool);
+
+        assertCrossings(result[0], new int[]{1, 1}, new long[]{10 * MINUTE, 3 * HOUR + 10 * MINUTE});
+    }
+
+    @Test
+    void definitionWithUserIdOnlyScansThatUser() {
+        EventColumns events = EventColumns.builder(6)
+                .append(1, 0, bug())
+                .append(1, MINUTE, bug())
+                .append(2, 0, bug())
+                .append(2, 2 * MINUTE, bug())
+                .append(3, 0, label(LabelType.QUESTION))
+                .append(3, 3 * MINUTE, label(LabelType.QUESTION))
+                .build();
+
+        Crossings[] result = BacktestScanner.scan(events, List.of(
+                new ScanDefinition(2, LabelType.BUG, 2, 1),
+                new ScanDefinition(null, LabelType.BUG, 2, 1),
+                new ScanDefinition(null, LabelType.QUESTION, 2, 1)
+        ), pool);
+
+        assertCrossings(result[0], new int[]{2}, new long[]{2 * MINUTE});
+        assertCrossings(result[1], new int[]{1, 2}, new long[]{MINUTE, 2 * MINUTE});
+        assertCrossings(result[2], new int[]{3}, new long[]{3 * MINUTE});
+    }
+
+    @Test
+    void forkedScanKeepsResultsOrderedByUser() {
+        // Few users with many events each, so the user range is split across tasks
+        int users = 5;
+        int pairsPerUser = 20_000;
+        EventColumns.Builder builder = EventColumns.builder(users * pairsPerUser * 2);
+        for (int u = 0; u < users; u++) {
+            for (int p = 0; p < pairsPerUser; p++) {
+                // Two events a minute apart, then a two hour gap that empties the window
+                long base = p * 2 * HOUR;
+                builder.append(10 + u, base, bug());
+                builder.append(10 + u, base + MINUTE, bug());
+            }
+        }
+        EventColumns events = builder.build();
+
+        Crossings[] result = BacktestScanner.scan(events,
+                List.of(new ScanDefinition(null, LabelType.BUG, 2, 1)), pool);
+
+        Crossings crossings = result[0];
+        assertEquals(users * pairsPerUser, crossings.size());
+        for (int i = 0; i < crossings.size(); i++) {
+            int u = i / pairsPerUser;
+            int p = i % pairsPerUser;
+            assertEquals(10 + u, crossings.userId(i), "user at " + i);
+            assertEquals(p * 2 * HOUR + MINUTE, crossings.time(i), "time at " + i);
+        }
+    }
+
+    private static void assertCrossings(Crossings crossings, int[] userIds, long[] times) {
+        assertEquals(userIds.length, crossings.size());
+        for (int i = 0; i < userIds.length; i++) {
+            assertEquals(userIds[i], crossings.userId(i), "user at " + i);
+            assertEquals(times[i], crossings.time(i), "time at " + i);
+        }
+    }
+
+    private static byte bug() {
+        return label(LabelType.BUG);
+    }
+
+    private static byte label(LabelType label) {
+        return (byte) label.ordinal();
+    }
+}
@@ -0,0 +1,118 @@
+package com.alerthub.metric.catalog;
+
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.model.Metric;
+import com.alerthub.metric.repository.MetricRepository;
+import com.alerthub.metric.service.MetricQueryService;
+import com.example.metricservice.MetricserviceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Manual benchmark of the metric catalog against the JPA path on embedded H2.
+ * Not picked up by surefire's default includes; run it with
+ * <pre>
+ * mvn test -Dtest=MetricCatalogBenchmark -Dsurefire.failIfNoSpecifiedTests=false
+ * </pre>
+ * Against MySQL the JPA numbers are higher still, as every call is a network round trip.
+ */
+@SpringBootTest(classes = MetricserviceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("queryplan")
+class MetricCatalogBenchmark {
+
+    private static final int USERS = 5_000;
+    private static final int METRICS = 50_000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MetricRepository metricRepository;
+
+    @Autowired
+    private MetricQueryService metricQueryService;
+
+    @Autowired
+    private MetricCatalog metricCatalog;
+
+    @Test
+    void compareCatalogWithJpa() {
+        seed();
+        metricCatalog.reload();
+
+        LabelType[] labels = LabelType.values();
+        run("findByUserIdAndLabel",
+                i -> metricRepository.findByUserIdAndLabel(i % USERS, labels[i % labels.length]),
+                i -> metricQueryService.findByUserIdAndLabel(i % USERS, labels[i % labels.length]));
+        run("findByUserId",
+                i -> metricRepository.findByUserId(i % USERS),
+                i -> metricQueryService.findByUserId(i % USERS));
+        run("findMetricsWithHighThreshold",
+                i -> metricRepository.findMetricsWithHighThreshold(990 + i % 10),
+                i -> metricQueryService.findMetricsWithHighThreshold(990 + i % 10));
+        run("findByTimeFrameRange",
+                i -> metricRepository.findByTimeFrameRange(i % 168, i % 168 + 1),
+                i -> metricQueryService.findByTimeFrameRange(i % 168, i % 168 + 1));
+    }
+
+    private void run(String query, IntFunction<List<Metric>> jpa, IntFunction<List<Metric>> catalog) {
+        long jpaNanos = time(jpa);
+        long catalogNanos = time(catalog);
+        System.out.printf("%-30s jpa %8.1f us/op   catalog %8.3f us/op   x%.0f%n",
+                query,
+                jpaNanos / 1e3 / ITERATIONS,
+                catalogNanos / 1e3 / ITERATIONS,
+                (double) jpaNanos / catalogNanos);
+    }
+
+    private static long time(IntFunction<List<Metric>> query) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += query.apply(i).size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += query.apply(i).size();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink < 0) {
+            throw new IllegalStateException();
+        }
+        return elapsed;
+    }
+
+    private void seed() {
+        LabelType[] labels = LabelType.values();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> metrics = new ArrayList<>(METRICS);
+        for (int i = 0; i < METRICS; i++) {
+            metrics.add(new Object[]{
+                    UUID.randomUUID(),
+                    i % USERS,
+                    "bench-metric-" + i,
+                    labels[i % labels.length].name(),
+                    1 + i % 1_000,
+                    1 + i % 168,
+                    now,
+                    now
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO metric (id, user_id, name, label, threshold, time_frame_hours, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, metrics);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
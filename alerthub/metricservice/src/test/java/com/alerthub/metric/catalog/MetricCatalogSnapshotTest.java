@@ -0,0 +1,225 @@
+package com.alerthub.metric.catalog;
+
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.model.Metric;
+import com.alerthub.metric.repository.MetricRepository;
+import com.example.metricservice.MetricserviceApplication;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs every snapshot query and its JPA counterpart on the same rows in H2
+ * (schema from the Flyway migrations) and expects the same metrics back.
+ * The seed puts duplicates and extreme values on the binary search bounds.
+ */
+@SpringBootTest(classes = MetricserviceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MetricCatalogSnapshotTest {
+
+    private static final int[] USERS = {0, 1, 2, 7, 1_000, Integer.MAX_VALUE};
+    private static final int[] THRESHOLDS = {0, 1, 1, 5, 10, 10, 10, 100, Integer.MAX_VALUE};
+    private static final int[] TIME_FRAMES = {1, 1, 2, 24, 24, 168, 720};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MetricRepository metricRepository;
+
+    private MetricCatalogSnapshot snapshot;
+
+    private final List<UUID> ids = new ArrayList<>();
+    private final Set<Integer> thresholds = new TreeSet<>();
+    private final Set<Integer> timeFrames = new TreeSet<>();
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("DELETE FROM labeled_event");
+        jdbcTemplate.update("DELETE FROM metric");
+
+        LabelType[] labels = LabelType.values();
+        LocalDateTime now = LocalDateTime.now();
+        int n = 0;
+        for (int user : USERS) {
+            // User 2 has no metrics, so lookups land between two runs of keys
+            if (user == 2) {
+                continue;
+            }
+            for (int i = 0; i < 12; i++, n++) {
+                // Every user has every label, some of them twice
+                LabelType label = labels[(i * 4) % labels.length];
+                int threshold = THRESHOLDS[n % THRESHOLDS.length];
+                int timeFrame = TIME_FRAMES[n % TIME_FRAMES.length];
+                insert(UUID.randomUUID(), user, "metric-" + n, label, threshold, timeFrame, now);
+            }
+        }
+        // Two users picked the same name, and one user has it twice
+        insert(UUID.randomUUID(), 1, "Open bugs", LabelType.BUG, 3, 24, now);
+        insert(UUID.randomUUID(), 7, "Open bugs", LabelType.BUG, 3, 24, now);
+        insert(UUID.randomUUID(), 7, "Open bugs", LabelType.QUESTION, 3, 24, now);
+
+        snapshot = MetricCatalogSnapshot.of(metricRepository.findAll());
+    }
+
+    @Test
+    void findById() {
+        for (UUID id : ids) {
+            assertEquals(metricRepository.findById(id).map(Metric::getId), snapshot.findById(id).map(Metric::getId));
+        }
+        assertFalse(snapshot.findById(UUID.randomUUID()).isPresent());
+    }
+
+    @Test
+    void findAllById() {
+        List<UUID> requested = new ArrayList<>(ids.subList(0, 10));
+        requested.add(UUID.randomUUID());
+        assertEquals(idsOf(metricRepository.findAllById(requested)), idsOf(snapshot.findAllById(requested)));
+        assertEquals(Set.of(), idsOf(snapshot.findAllById(List.of())));
+    }
+
+    @Test
+    void findByUserId() {
+        for (int user : probes(USERS)) {
+            assertEquals(idsOf(metricRepository.findByUserId(user)), idsOf(snapshot.findByUserId(user)),
+                    "user " + user);
+        }
+    }
+
+    @Test
+    void findByLabel() {
+        for (LabelType label : LabelType.values()) {
+            assertEquals(idsOf(metricRepository.findByLabel(label)), idsOf(snapshot.findByLabel(label)),
+                    "label " + label);
+        }
+    }
+
+    @Test
+    void findByUserIdAndLabel() {
+        for (int user : probes(USERS)) {
+            for (LabelType label : LabelType.values()) {
+                assertEquals(idsOf(metricRepository.findByUserIdAndLabel(user, label)),
+                        idsOf(snapshot.findByUserIdAndLabel(user, label)),
+                        "user " + user + ", label " + label);
+            }
+        }
+    }
+
+    @Test
+    void findByName() {
+        for (String name : List.of("metric-0", "metric-42", "missing")) {
+            assertEquals(metricRepository.findByName(name).map(Metric::getId),
+                    snapshot.findByName(name).map(Metric::getId), name);
+        }
+    }
+
+    @Test
+    void findByNameWithSeveralMatchesFailsOnBothPaths() {
+        assertThrows(IncorrectResultSizeDataAccessException.class, () -> metricRepository.findByName("Open bugs"));
+        IncorrectResultSizeDataAccessException e = assertThrows(IncorrectResultSizeDataAccessException.class,
+                () -> snapshot.findByName("Open bugs"));
+        assertEquals(1, e.getExpectedSize());
+        assertEquals(3, e.getActualSize());
+    }
+
+    @Test
+    void existsByUserIdAndName() {
+        for (int user : probes(USERS)) {
+            for (String name : List.of("metric-0", "metric-13", "Open bugs", "missing")) {
+                assertEquals(metricRepository.existsByUserIdAndName(user, name),
+                        snapshot.existsByUserIdAndName(user, name), "user " + user + ", name " + name);
+            }
+        }
+    }
+
+    @Test
+    void findMetricsWithHighThreshold() {
+        for (int threshold : probes(thresholds)) {
+            assertEquals(idsOf(metricRepository.findMetricsWithHighThreshold(threshold)),
+                    idsOf(snapshot.findMetricsWithHighThreshold(threshold)), "threshold " + threshold);
+        }
+    }
+
+    @Test
+    void findByTimeFrameRange() {
+        List<Integer> bounds = probes(timeFrames);
+        for (int min : bounds) {
+            for (int max : bounds) {
+                // Includes empty ranges (min > max) and single values (min == max)
+                assertEquals(idsOf(metricRepository.findByTimeFrameRange(min, max)),
+                        idsOf(snapshot.findByTimeFrameRange(min, max)), "range " + min + ".." + max);
+            }
+        }
+    }
+
+    @Test
+    void emptySnapshotFindsNothing() {
+        MetricCatalogSnapshot empty = MetricCatalogSnapshot.of(List.of());
+
+        assertEquals(0, empty.size());
+        assertEquals(List.of(), empty.findByUserId(1));
+        assertEquals(List.of(), empty.findByUserIdAndLabel(1, LabelType.BUG));
+        assertEquals(List.of(), empty.findMetricsWithHighThreshold(0));
+        assertEquals(List.of(), empty.findByTimeFrameRange(0, Integer.MAX_VALUE));
+        assertEquals(Optional.empty(), empty.findByName("Open bugs"));
+    }
+
+    // Every seeded value, its neighbours, and the int extremes
+    private static List<Integer> probes(int[] values) {
+        Set<Integer> seeded = new TreeSet<>();
+        for (int value : values) {
+            seeded.add(value);
+        }
+        return probes(seeded);
+    }
+
+    private static List<Integer> probes(Set<Integer> values) {
+        Set<Integer> probes = new TreeSet<>(List.of(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        for (int value : values) {
+            probes.add(value);
+            if (value > Integer.MIN_VALUE) {
+                probes.add(value - 1);
+            }
+            if (value < Integer.MAX_VALUE) {
+                probes.add(value + 1);
+            }
+        }
+        return List.copyOf(probes);
+    }
+
+    private static Set<UUID> idsOf(List<Metric> metrics) {
+        return metrics.stream().map(Metric::getId).collect(Collectors.toSet());
+    }
+
+    private void insert(UUID id, int userId, String name, LabelType label, int threshold, int timeFrame,
+                        LocalDateTime updatedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO metric (id, user_id, name, label, threshold, time_frame_hours, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, id, userId, name, label.name(), threshold, timeFrame,
+                Timestamp.valueOf(updatedAt), Timestamp.valueOf(updatedAt));
+        ids.add(id);
+        thresholds.add(threshold);
+        timeFrames.add(timeFrame);
+    }
+}
@@ -0,0 +1,105 @@
+package com.alerthub.metric.catalog;
+
+import com.alerthub.metric.enums.LabelType;
+import com.example.metricservice.MetricserviceApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Refreshes the catalog against H2 (schema from the Flyway migrations).
+ */
+@SpringBootTest(classes = MetricserviceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class MetricCatalogTest {
+
+    @Autowired
+    private MetricCatalog metricCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM labeled_event");
+        jdbcTemplate.update("DELETE FROM metric");
+        metricCatalog.reload();
+    }
+
+    @AfterEach
+    void restoreReloadAge() {
+        ReflectionTestUtils.setField(metricCatalog, "maxReloadAgeMs", 1_200_000L);
+    }
+
+    @Test
+    void refreshPicksUpNewAndChangedMetrics() {
+        UUID id = UUID.randomUUID();
+        insert(id, "Open bugs", 10);
+        metricCatalog.refresh();
+        assertEquals(10, metricCatalog.freshSnapshot().findById(id).orElseThrow().getThreshold());
+
+        jdbcTemplate.update("UPDATE metric SET threshold = 20, updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now()), id);
+        metricCatalog.refresh();
+        assertEquals(20, metricCatalog.freshSnapshot().findById(id).orElseThrow().getThreshold());
+    }
+
+    @Test
+    void refreshReloadsWhenRowsWereDeleted() {
+        UUID kept = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        insert(kept, "Open bugs", 10);
+        insert(deleted, "Questions", 10);
+        metricCatalog.refresh();
+        assertEquals(2, metricCatalog.freshSnapshot().size());
+
+        jdbcTemplate.update("DELETE FROM metric WHERE id = ?", deleted);
+        // A new row in the same interval does not hide the delete
+        UUID added = UUID.randomUUID();
+        insert(added, "Docs", 10);
+        metricCatalog.refresh();
+
+        MetricCatalogSnapshot snapshot = metricCatalog.freshSnapshot();
+        assertEquals(2, snapshot.size());
+        assertTrue(snapshot.findById(kept).isPresent());
+        assertTrue(snapshot.findById(added).isPresent());
+        assertFalse(snapshot.findById(deleted).isPresent());
+    }
+
+    @Test
+    void snapshotIsStaleOnceTheLastFullReloadIsTooOld() {
+        assertNotNull(metricCatalog.freshSnapshot());
+
+        // Incremental refreshes alone do not keep it fresh
+        ReflectionTestUtils.setField(metricCatalog, "maxReloadAgeMs", -1L);
+        metricCatalog.refresh();
+        assertNull(metricCatalog.freshSnapshot());
+
+        ReflectionTestUtils.setField(metricCatalog, "maxReloadAgeMs", 1_200_000L);
+        metricCatalog.reload();
+        assertNotNull(metricCatalog.freshSnapshot());
+    }
+
+    private void insert(UUID id, String name, int threshold) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                INSERT INTO metric (id, user_id, name, label, threshold, time_frame_hours, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, id, 1, name, LabelType.BUG.name(), threshold, 24, now, now);
+    }
+}
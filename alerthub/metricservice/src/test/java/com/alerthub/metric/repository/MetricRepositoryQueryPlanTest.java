@@ -0,0 +1,193 @@
+package com.alerthub.metric.repository;
+
+import com.alerthub.metric.enums.LabelType;
+import com.example.metricservice.MetricserviceApplication;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeds realistic volumes into H2 (schema from the Flyway migrations),
+ * runs each repository query, and EXPLAINs the SQL Hibernate produced.
+ * A test fails when a query falls back to a full table scan.
+ * <p>
+ * Not covered on purpose: findByLabel matches a large share of the table
+ * (few distinct labels), so a scan is an acceptable plan for it.
+ */
+@SpringBootTest(classes = MetricserviceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("queryplan")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MetricRepositoryQueryPlanTest {
+
+    private static final int USERS = 1_000;
+    private static final int METRICS = 10_000;
+    private static final int EVENTS = 200_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MetricRepository metricRepository;
+
+    @Autowired
+    private LabeledEventRepository labeledEventRepository;
+
+    private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    @BeforeAll
+    void seed() {
+        LabelType[] labels = LabelType.values();
+
+        List<Object[]> metrics = new ArrayList<>(METRICS);
+        for (int i = 0; i < METRICS; i++) {
+            metrics.add(new Object[]{
+                    UUID.randomUUID(),
+                    i % USERS,
+                    "metric-" + i,
+                    labels[i % labels.length].name(),
+                    1 + i % 1_000,
+                    1 + i % 168,
+                    now,
+                    now
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO metric (id, user_id, name, label, threshold, time_frame_hours, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, metrics);
+
+        // Roughly 90 days of events
+        List<Object[]> events = new ArrayList<>(EVENTS);
+        long spacing = 90L * 24 * 3_600_000 / EVENTS;
+        for (int i = 0; i < EVENTS; i++) {
+            Timestamp eventTime = new Timestamp(now.getTime() - (long) (EVENTS - i) * spacing);
+            events.add(new Object[]{
+                    i % USERS,
+                    labels[(i / USERS) % labels.length].name(),
+                    eventTime,
+                    // Stored shortly after it happened
+                    new Timestamp(eventTime.getTime() + 60_000)
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO labeled_event (user_id, label, event_time, created_at)
+                VALUES (?, ?, ?, ?)
+                """, events);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @BeforeEach
+    void clearCapturedSql() {
+        CapturingStatementInspector.clear();
+    }
+
+    // ===== MetricRepository =====
+
+    @Test
+    void findByUserIdUsesUserLabelIndex() {
+        metricRepository.findByUserId(7);
+        assertUsesIndex("idx_metric_user_label", 7);
+    }
+
+    @Test
+    void findByUserIdAndLabelUsesUserLabelIndex() {
+        metricRepository.findByUserIdAndLabel(7, LabelType.BUG);
+        assertUsesIndex("idx_metric_user_label", 7, LabelType.BUG.name());
+    }
+
+    @Test
+    void findByNameUsesNameIndex() {
+        metricRepository.findByName("metric-42");
+        assertUsesIndex("idx_metric_name", "metric-42");
+    }
+
+    @Test
+    void existsByUserIdAndNameUsesUserNameIndex() {
+        metricRepository.existsByUserIdAndName(42, "metric-42");
+        assertUsesIndex("idx_metric_user_name", 42, "metric-42");
+    }
+
+    @Test
+    void findMetricsWithHighThresholdUsesThresholdIndex() {
+        metricRepository.findMetricsWithHighThreshold(990);
+        assertUsesIndex("idx_metric_threshold", 990);
+    }
+
+    @Test
+    void findByTimeFrameRangeUsesTimeFrameIndex() {
+        metricRepository.findByTimeFrameRange(24, 26);
+        assertUsesIndex("idx_metric_time_frame", 24, 26);
+    }
+
+    @Test
+    void findByUpdatedAtGreaterThanEqualUsesUpdatedAtIndex() {
+        Timestamp since = new Timestamp(now.getTime() + 1);
+        metricRepository.findByUpdatedAtGreaterThanEqual(since);
+        assertUsesIndex("idx_metric_updated_at", since);
+    }
+
+    // ===== LabeledEventRepository =====
+
+    @Test
+    @Transactional(readOnly = true)
+    void streamInRangeUsesEventTimeIndex() {
+        Timestamp from = new Timestamp(now.getTime() - 3_600_000);
+        try (Stream<Object[]> rows = labeledEventRepository.streamInRange(from, now)) {
+            rows.forEach(row -> {
+            });
+        }
+        assertUsesIndex("idx_labeled_event_time", from, now);
+    }
+
+    @Test
+    void countInWindowUsesUserLabelTimeIndex() {
+        Timestamp from = new Timestamp(now.getTime() - 24 * 3_600_000L);
+        labeledEventRepository.countInWindow(List.of(7, 8), List.of(LabelType.BUG), from, now);
+        assertUsesIndex("idx_labeled_event_user_label_time", 7, 8, LabelType.BUG.name(), from, now);
+    }
+
+    @Test
+    void findChangedSinceUsesCreatedIndex() {
+        Timestamp since = new Timestamp(now.getTime() - 3_600_000);
+        labeledEventRepository.findChangedSince(since);
+        assertUsesIndex("idx_labeled_event_created", since);
+    }
+
+    // ===== Helpers =====
+
+    /**
+     * EXPLAINs the last captured SELECT with the given parameters (in SQL order)
+     * and checks that it names the index (as a whole name) and contains no table scan.
+     * Trailing parameters that are not given (row limits Hibernate adds) are bound to 1.
+     */
+    private void assertUsesIndex(String index, Object... params) {
+        String sql = CapturingStatementInspector.lastSelect();
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] args = Arrays.copyOf(params, Math.max(placeholders, params.length));
+        Arrays.fill(args, params.length, args.length, 1);
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+        assertFalse(plan.contains(".tableScan"), () -> "Full table scan:\n" + plan);
+        assertTrue(Pattern.compile("\\b" + index + "\\b", Pattern.CASE_INSENSITIVE).matcher(plan).find(),
+                () -> "Expected index " + index + " in plan:\n" + plan);
+    }
+}
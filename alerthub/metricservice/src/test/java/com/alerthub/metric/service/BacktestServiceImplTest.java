@@ -0,0 +1,107 @@
+package com.alerthub.metric.service;
+
+import com.alerthub.metric.backtest.EventColumns;
+import com.alerthub.metric.backtest.EventColumnsLoader;
+import com.alerthub.metric.dto.BacktestRequest;
+import com.alerthub.metric.dto.BacktestResponse;
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.exception.BacktestBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BacktestServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 3, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    private final EventColumnsLoader eventColumnsLoader = mock(EventColumnsLoader.class);
+
+    @Test
+    void alertCountCoversEveryCrossingButOnlyTheFirstAreReturned() {
+        // One bug per user, so every user crosses a threshold of 1; user 0 only in the warm-up
+        EventColumns.Builder events = EventColumns.builder(6);
+        events.append(0, millis(FROM.minusMinutes(30)), bug());
+        for (int user = 1; user <= 5; user++) {
+            events.append(user, millis(FROM.plusMinutes(user)), bug());
+        }
+        when(eventColumnsLoader.load(any(), any(), anyInt())).thenReturn(events.build());
+        BacktestServiceImpl service = service(2);
+        ReflectionTestUtils.setField(service, "maxCrossings", 3);
+
+        BacktestResponse.DefinitionResult result = service.backtest(request()).getResults().getFirst();
+
+        assertEquals(5, result.getAlertCount());
+        assertEquals(List.of(1, 2, 3), result.getCrossings().stream().map(BacktestResponse.Crossing::getUserId).toList());
+        assertTrue(result.isCrossingsTruncated());
+    }
+
+    @Test
+    void resultUnderTheCapIsNotTruncated() {
+        when(eventColumnsLoader.load(any(), any(), anyInt()))
+                .thenReturn(EventColumns.builder(1).append(1, millis(FROM), bug()).build());
+
+        BacktestResponse.DefinitionResult result = service(2).backtest(request()).getResults().getFirst();
+
+        assertEquals(1, result.getAlertCount());
+        assertEquals(1, result.getCrossings().size());
+        assertFalse(result.isCrossingsTruncated());
+    }
+
+    @Test
+    void backtestBeyondTheConcurrencyLimitIsTurnedAway() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventColumnsLoader.load(any(), any(), anyInt())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return EventColumns.builder(0).build();
+        });
+        BacktestServiceImpl service = service(1);
+
+        CompletableFuture<BacktestResponse> first = CompletableFuture.supplyAsync(() -> service.backtest(request()));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        assertThrows(BacktestBusyException.class, () -> service.backtest(request()));
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        // The permit is back once the first one finished
+        assertEquals(0, service.backtest(request()).getEventsScanned());
+    }
+
+    private BacktestServiceImpl service(int maxConcurrent) {
+        BacktestServiceImpl service = new BacktestServiceImpl(eventColumnsLoader, maxConcurrent);
+        ReflectionTestUtils.setField(service, "maxRangeDays", 366);
+        ReflectionTestUtils.setField(service, "maxEvents", 1_000);
+        ReflectionTestUtils.setField(service, "maxCrossings", 10_000);
+        return service;
+    }
+
+    private static BacktestRequest request() {
+        return new BacktestRequest(FROM, TO,
+                List.of(new BacktestRequest.Definition("Any bug", null, LabelType.BUG, 1, 1)));
+    }
+
+    private static long millis(LocalDateTime time) {
+        return Timestamp.valueOf(time).getTime();
+    }
+
+    private static byte bug() {
+        return (byte) LabelType.BUG.ordinal();
+    }
+}
@@ -0,0 +1,166 @@
+package com.alerthub.metric.service;
+
+import com.alerthub.metric.catalog.MetricCatalog;
+import com.alerthub.metric.dto.MetricStatusRequest;
+import com.alerthub.metric.dto.MetricStatusResponse;
+import com.alerthub.metric.enums.LabelType;
+import com.alerthub.metric.repository.LabeledEventRepository;
+import com.example.metricservice.MetricserviceApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs status requests against H2 (schema from the Flyway migrations)
+ * and checks counts against windows computed by hand.
+ */
+@SpringBootTest(classes = MetricserviceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class MetricStatusServiceImplTest {
+
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private static final UUID BUGS_1H = UUID.randomUUID();
+    private static final UUID BUGS_24H = UUID.randomUUID();
+    private static final UUID QUESTIONS_1H = UUID.randomUUID();
+    private static final UUID USER2_BUGS_1H = UUID.randomUUID();
+    private static final UUID USER2_QUESTIONS_24H = UUID.randomUUID();
+    private static final UUID USER3_BUGS_1H = UUID.randomUUID();
+
+    @Autowired
+    private MetricStatusService metricStatusService;
+
+    @Autowired
+    private MetricCatalog metricCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private LabeledEventRepository labeledEventRepository;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM labeled_event");
+        jdbcTemplate.update("DELETE FROM metric");
+
+        LocalDateTime old = WINDOW_END.minusDays(30);
+        metric(BUGS_1H, 1, LabelType.BUG, 1, old);
+        metric(BUGS_24H, 1, LabelType.BUG, 24, old);
+        metric(QUESTIONS_1H, 1, LabelType.QUESTION, 1, old);
+        metric(USER2_BUGS_1H, 2, LabelType.BUG, 1, old);
+        metric(USER2_QUESTIONS_24H, 2, LabelType.QUESTION, 24, old);
+        // Edited during the lead window, but no events
+        metric(USER3_BUGS_1H, 3, LabelType.BUG, 1, WINDOW_END.minusMinutes(5));
+
+        event(1, LabelType.BUG, WINDOW_END.minusHours(11));
+        // Exactly one hour before the window end: outside (end - 1h, end]
+        event(1, LabelType.BUG, WINDOW_END.minusHours(1));
+        event(1, LabelType.BUG, WINDOW_END.minusMinutes(30));
+        event(1, LabelType.BUG, WINDOW_END);
+        event(1, LabelType.BUG, WINDOW_END.plusMinutes(10));
+        event(1, LabelType.QUESTION, WINDOW_END.minusMinutes(5));
+        event(2, LabelType.BUG, WINDOW_END.minusMinutes(2));
+        event(2, LabelType.QUESTION, WINDOW_END.minusDays(2));
+
+        metricCatalog.reload();
+    }
+
+    @Test
+    void countsEveryMetricInItsOwnWindow() {
+        Map<UUID, Long> counts = counts(metricStatusService.getStatus(request(null,
+                BUGS_1H, BUGS_24H, QUESTIONS_1H, USER2_BUGS_1H, USER2_QUESTIONS_24H, USER3_BUGS_1H)));
+
+        assertEquals(Map.of(
+                BUGS_1H, 2L,
+                BUGS_24H, 4L,
+                QUESTIONS_1H, 1L,
+                USER2_BUGS_1H, 1L,
+                USER2_QUESTIONS_24H, 0L,
+                USER3_BUGS_1H, 0L
+        ), counts);
+        // One grouped count per distinct time frame, not one per metric
+        verify(labeledEventRepository, times(2)).countInWindow(any(), any(), any(), any());
+        verify(labeledEventRepository, never()).findChangedSince(any());
+    }
+
+    @Test
+    void changedSinceReturnsMetricsWithNewEventsOrEdits() {
+        Map<UUID, Long> counts = counts(metricStatusService.getStatus(request(WINDOW_END.minusMinutes(10),
+                BUGS_1H, BUGS_24H, QUESTIONS_1H, USER2_BUGS_1H, USER2_QUESTIONS_24H, USER3_BUGS_1H)));
+
+        assertEquals(Map.of(
+                BUGS_1H, 2L,
+                BUGS_24H, 4L,
+                QUESTIONS_1H, 1L,
+                USER2_BUGS_1H, 1L,
+                USER3_BUGS_1H, 0L
+        ), counts);
+        verify(labeledEventRepository, times(1)).findChangedSince(any());
+        verify(labeledEventRepository, times(2)).countInWindow(any(), any(), any(), any());
+    }
+
+    @Test
+    void lateEventWithAnOlderEventTimeCountsAsAChange() {
+        // Happened three hours ago, collected during the lead window
+        event(2, LabelType.QUESTION, WINDOW_END.minusHours(3), WINDOW_END.minusMinutes(3));
+
+        Map<UUID, Long> counts = counts(metricStatusService.getStatus(request(WINDOW_END.minusMinutes(10),
+                USER2_QUESTIONS_24H)));
+
+        assertEquals(Map.of(USER2_QUESTIONS_24H, 1L), counts);
+    }
+
+    @Test
+    void unknownAndMalformedIdsAreIgnored() {
+        MetricStatusRequest request = new MetricStatusRequest(
+                List.of(BUGS_1H.toString(), UUID.randomUUID().toString(), "not-a-uuid"), WINDOW_END, null);
+
+        assertEquals(Map.of(BUGS_1H, 2L), counts(metricStatusService.getStatus(request)));
+    }
+
+    private static MetricStatusRequest request(LocalDateTime changedSince, UUID... ids) {
+        return new MetricStatusRequest(
+                Arrays.stream(ids).map(UUID::toString).toList(), WINDOW_END, changedSince);
+    }
+
+    private static Map<UUID, Long> counts(List<MetricStatusResponse> statuses) {
+        return statuses.stream().collect(Collectors.toMap(MetricStatusResponse::getId, MetricStatusResponse::getCount));
+    }
+
+    private void metric(UUID id, int userId, LabelType label, int timeFrameHours, LocalDateTime updatedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO metric (id, user_id, name, label, threshold, time_frame_hours, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, id, userId, "metric-" + id, label.name(), 1, timeFrameHours,
+                Timestamp.valueOf(updatedAt), Timestamp.valueOf(updatedAt));
+    }
+
+    // Stored as it happened
+    private void event(int userId, LabelType label, LocalDateTime time) {
+        event(userId, label, time, time);
+    }
+
+    private void event(int userId, LabelType label, LocalDateTime time, LocalDateTime storedAt) {
+        jdbcTemplate.update("INSERT INTO labeled_event (user_id, label, event_time, created_at) VALUES (?, ?, ?, ?)",
+                userId, label.name(), Timestamp.valueOf(time), Timestamp.valueOf(storedAt));
+    }
+}